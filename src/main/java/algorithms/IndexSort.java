@@ -0,0 +1,96 @@
+package algorithms;
+
+import datastructures.DynamicArray;
+import datastructures.SortedView;
+
+import java.util.Comparator;
+
+/**
+ * Sorting without moving the data
+ * Instead of reordering a DynamicArray, these return its sorted order as an
+ * int[] permutation (element i is the index of the i-th element in the
+ * source), or a SortedView built on one. The source is never modified, so
+ * several views can keep different orderings of the same list while other
+ * code still sees the original order.
+ * Stable: equal elements appear in source order.
+ */
+public class IndexSort {
+
+    // index ranges up to this size are sorted with insertion sort before merging
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /**
+     * Stable sorted order of source (source is not modified)
+     * KeyedComparators are sorted on precomputed keys (see KeySort), any
+     * other comparator with a merge sort on the indices
+     */
+    public static <T> int[] sortedOrder(DynamicArray<T> source, Comparator<T> comparator) {
+        if (comparator instanceof KeyedComparator<T> keyed) {
+            return KeySort.sortedOrder(source, keyed);
+        }
+        T[] elements = source.toArray();
+        int n = elements.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        for (int from = 0; from < n; from += INSERTION_THRESHOLD) {
+            insertionSort(order, from, Math.min(n, from + INSERTION_THRESHOLD), elements, comparator);
+        }
+        // bottom-up merges, alternating between the two index arrays
+        int[] buffer = new int[n];
+        for (int width = INSERTION_THRESHOLD; width < n; width *= 2) {
+            for (int from = 0; from < n; from += 2 * width) {
+                int mid = Math.min(n, from + width);
+                int to = Math.min(n, from + 2 * width);
+                merge(order, buffer, from, mid, to, elements, comparator);
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Read-only sorted view over source (source is not modified)
+     * The view does not follow later changes to source - take a new one
+     */
+    public static <T> SortedView<T> sortedView(DynamicArray<T> source, Comparator<T> comparator) {
+        return new SortedView<>(source, sortedOrder(source, comparator));
+    }
+
+    private static <T> void insertionSort(int[] order, int from, int to, T[] elements, Comparator<T> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int index = order[i];
+            int j = i - 1;
+            // strictly greater: equal elements stay in index order
+            while (j >= from && comparator.compare(elements[order[j]], elements[index]) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = index;
+        }
+    }
+
+    // merges order[from..mid-1] and order[mid..to-1] into target[from..to-1]
+    private static <T> void merge(int[] order, int[] target, int from, int mid, int to,
+                                  T[] elements, Comparator<T> comparator) {
+        if (mid >= to || comparator.compare(elements[order[mid - 1]], elements[order[mid]]) <= 0) {
+            System.arraycopy(order, from, target, from, to - from); // already in order
+            return;
+        }
+        int left = from;
+        int right = mid;
+        for (int dest = from; dest < to; dest++) {
+            // take from the right only if strictly smaller - keeps equal elements in order
+            if (left < mid && (right >= to
+                    || comparator.compare(elements[order[right]], elements[order[left]]) >= 0)) {
+                target[dest] = order[left++];
+            } else {
+                target[dest] = order[right++];
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package algorithms;
+
+import datastructures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Decorate-sort-undecorate
+ * The sort key of every element is extracted once into a flat array
+ * (int keys: radix sort, or a packed long[] for small arrays; String keys:
+ * key/index pairs), the keys are sorted, and the DynamicArray is permuted
+ * to match. From PARALLEL_THRESHOLD elements, with more than one core, the
+ * keys are extracted and sorted on the common pool (Arrays.parallelSort). Comparators that parse dates or case-fold strings then do that
+ * work n times instead of O(n log n) times.
+ * Stable: elements with equal keys keep their order.
+ */
+public class KeySort {
+
+    // from this size int keys are radix sorted (O(n)); below it the fixed
+    // cost of the 256-entry histograms is larger than a primitive sort
+    static final int RADIX_THRESHOLD = 256;
+
+    // from this size keys are extracted and sorted on all cores
+    // (the same threshold as the controller's parallel sorts and filters)
+    public static final int PARALLEL_THRESHOLD = 20_000;
+
+    /**
+     * Sorts with a KeyedComparator's key
+     */
+    public static <T> void sort(DynamicArray<T> array, KeyedComparator<T> comparator) {
+        if (comparator.isIntKey()) {
+            sortByIntKey(array, comparator.getIntKey(), comparator.isDescending());
+        } else {
+            sortByStringKey(array, comparator.getStringKey(), comparator.isDescending());
+        }
+    }
+
+    /**
+     * Sorts by an int key (RadixSort for big arrays)
+     */
+    public static <T> void sortByIntKey(DynamicArray<T> array, ToIntFunction<? super T> key, boolean descending) {
+        if (array.size() > 1) {
+            permute(array, intKeyOrder(array, key, descending));
+        }
+    }
+
+    /**
+     * Sorts by a String key (natural String order of the keys)
+     */
+    public static <T> void sortByStringKey(DynamicArray<T> array, Function<? super T, String> key,
+                                           boolean descending) {
+        if (array.size() > 1) {
+            permute(array, stringKeyOrder(array, key, descending));
+        }
+    }
+
+    /**
+     * Stable sorted order for a KeyedComparator without moving anything:
+     * element i of the result is the index in array of the i-th element
+     */
+    public static <T> int[] sortedOrder(DynamicArray<T> array, KeyedComparator<T> comparator) {
+        if (comparator.isIntKey()) {
+            return intKeyOrder(array, comparator.getIntKey(), comparator.isDescending());
+        }
+        return stringKeyOrder(array, comparator.getStringKey(), comparator.isDescending());
+    }
+
+    static <T> int[] intKeyOrder(DynamicArray<T> array, ToIntFunction<? super T> key, boolean descending) {
+        int n = array.size();
+        if (isParallel(n)) {
+            return parallelIntKeyOrder(array.toArray(), key, descending);
+        }
+        if (n >= RADIX_THRESHOLD) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                int k = key.applyAsInt(array.get(i));
+                keys[i] = descending ? ~k : k;
+            }
+            return RadixSort.sortedOrder(keys);
+        }
+        // high half: key (inverted for descending), low half: index - equal keys stay in index order
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            int k = key.applyAsInt(array.get(i));
+            packed[i] = ((long) (descending ? ~k : k) << 32) | i;
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = (int) packed[i];
+        }
+        return order;
+    }
+
+    static <T> int[] stringKeyOrder(DynamicArray<T> array, Function<? super T, String> key, boolean descending) {
+        int n = array.size();
+        Decorated[] decorated = new Decorated[n];
+        Comparator<Decorated> byKey = (a, b) -> a.key.compareTo(b.key);
+        if (isParallel(n)) {
+            T[] elements = array.toArray();
+            IntStream.range(0, n).parallel().forEach(i -> decorated[i] = new Decorated(key.apply(elements[i]), i));
+            // Arrays.parallelSort on objects is a stable merge sort
+            Arrays.parallelSort(decorated, descending ? byKey.reversed() : byKey);
+        } else {
+            for (int i = 0; i < n; i++) {
+                decorated[i] = new Decorated(key.apply(array.get(i)), i);
+            }
+            TimSort.sort(decorated, descending ? byKey.reversed() : byKey);
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = decorated[i].index;
+        }
+        return order;
+    }
+
+    private static boolean isParallel(int n) {
+        return n >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    // packed key/index longs, filled and sorted on the common pool; the
+    // radix sort is sequential, so on several cores this is the faster path
+    private static <T> int[] parallelIntKeyOrder(T[] elements, ToIntFunction<? super T> key, boolean descending) {
+        int n = elements.length;
+        long[] packed = new long[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            int k = key.applyAsInt(elements[i]);
+            packed[i] = ((long) (descending ? ~k : k) << 32) | i;
+        });
+        Arrays.parallelSort(packed);
+
+        int[] order = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> order[i] = (int) packed[i]);
+        return order;
+    }
+
+    // element i of the result is element order[i] of the input
+    static <T> void permute(DynamicArray<T> array, int[] order) {
+        T[] elements = array.toArray();
+        T[] sorted = elements.clone();
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = elements[order[i]];
+        }
+        array.fromArray(sorted);
+    }
+
+    /**
+     * Case-folded copy of s: String.compareTo on folded strings gives the
+     * same order as compareToIgnoreCase on the originals (each char is
+     * folded the same way compareToIgnoreCase folds it)
+     */
+    public static String foldCase(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static final class Decorated {
+        final String key;
+        final int index;
+
+        Decorated(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+}
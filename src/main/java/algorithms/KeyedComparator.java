@@ -0,0 +1,83 @@
+package algorithms;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Comparator that also exposes the sort key it compares
+ * compare() works like any comparator, but KeySort can extract the key
+ * once per element (an int, or a String whose natural order is the
+ * comparator's order) and sort the keys instead of calling compare()
+ * O(n log n) times.
+ * Built from either an int key or a String key; reversed() keeps the key.
+ */
+public final class KeyedComparator<T> implements Comparator<T> {
+
+    private final Comparator<T> comparator;
+    private final ToIntFunction<? super T> intKey;       // null for String keys
+    private final Function<? super T, String> stringKey; // null for int keys
+    private final boolean descending;
+
+    private KeyedComparator(Comparator<T> comparator, ToIntFunction<? super T> intKey,
+                            Function<? super T, String> stringKey, boolean descending) {
+        this.comparator = comparator;
+        this.intKey = intKey;
+        this.stringKey = stringKey;
+        this.descending = descending;
+    }
+
+    /**
+     * Ascending order of an int key
+     */
+    public static <T> KeyedComparator<T> ofInt(ToIntFunction<? super T> key) {
+        return new KeyedComparator<>((a, b) -> Integer.compare(key.applyAsInt(a), key.applyAsInt(b)),
+                key, null, false);
+    }
+
+    /**
+     * Ascending order given by comparator, whose order must equal the
+     * natural (String.compareTo) order of sortKey
+     *
+     * @param comparator Used for single comparisons (no key is built)
+     * @param sortKey    Used by KeySort, called once per element
+     */
+    public static <T> KeyedComparator<T> ofString(Comparator<T> comparator, Function<? super T, String> sortKey) {
+        return new KeyedComparator<>(comparator, null, sortKey, false);
+    }
+
+    /**
+     * Ascending case-insensitive order of a String field, same as
+     * compareToIgnoreCase (the sort key is KeySort.foldCase of the field)
+     */
+    public static <T> KeyedComparator<T> ignoringCase(Function<? super T, String> field) {
+        return ofString((a, b) -> field.apply(a).compareToIgnoreCase(field.apply(b)),
+                element -> KeySort.foldCase(field.apply(element)));
+    }
+
+    @Override
+    public int compare(T a, T b) {
+        return descending ? comparator.compare(b, a) : comparator.compare(a, b);
+    }
+
+    @Override
+    public KeyedComparator<T> reversed() {
+        return new KeyedComparator<>(comparator, intKey, stringKey, !descending);
+    }
+
+    public boolean isIntKey() {
+        return intKey != null;
+    }
+
+    public ToIntFunction<? super T> getIntKey() {
+        return intKey;
+    }
+
+    public Function<? super T, String> getStringKey() {
+        return stringKey;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+}
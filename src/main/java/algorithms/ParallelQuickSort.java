@@ -0,0 +1,82 @@
+package algorithms;
+
+import datastructures.DynamicArray;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel quicksort on the fork/join pool
+ * Each task partitions its range (same pivot choice and 3-way partition as
+ * QuickSort), then sorts the two sides as parallel subtasks. Ranges below
+ * SEQUENTIAL_THRESHOLD, or past the depth limit, are finished with the
+ * sequential introsort, so the worst case stays O(n log n).
+ * Not stable (neither is QuickSort).
+ */
+public class ParallelQuickSort {
+
+    // below this many elements a range is sorted on the current thread
+    // (splitting further costs more in task overhead than it saves)
+    public static final int SEQUENTIAL_THRESHOLD = 8_192;
+
+    //Sorts DynamicArray on the common fork/join pool
+    public static <T> void sort(DynamicArray<T> array, Comparator<T> comparator) {
+        if (array == null || array.size() <= 1) {
+            return;
+        }
+        T[] arr = array.toArray();
+        sort(arr, comparator, ForkJoinPool.commonPool());
+        array.fromArray(arr);
+    }
+
+    //Sorts a regular array on the common fork/join pool
+    public static <T> void sort(T[] array, Comparator<T> comparator) {
+        sort(array, comparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Sorts a regular array on the given pool (e.g. one with a fixed
+     * parallelism, see ParallelSortBenchmark)
+     */
+    public static <T> void sort(T[] array, Comparator<T> comparator, ForkJoinPool pool) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(array.length));
+        pool.invoke(new SortTask<>(array, 0, array.length - 1, depthLimit, comparator));
+    }
+
+    private static final class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // tasks are never serialized
+        private final transient T[] array;
+        private final int lowerIndex;
+        private final int higherIndex;
+        private final int depthLimit;
+        private final transient Comparator<T> comparator;
+
+        SortTask(T[] array, int lowerIndex, int higherIndex, int depthLimit, Comparator<T> comparator) {
+            this.array = array;
+            this.lowerIndex = lowerIndex;
+            this.higherIndex = higherIndex;
+            this.depthLimit = depthLimit;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (higherIndex - lowerIndex + 1 <= SEQUENTIAL_THRESHOLD || depthLimit == 0) {
+                QuickSort.sortRange(array, lowerIndex, higherIndex, comparator);
+                return;
+            }
+            long bounds = QuickSort.partition(array, lowerIndex, higherIndex, comparator);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+            // the two sides are disjoint, so they can be sorted concurrently
+            invokeAll(new SortTask<>(array, lowerIndex, lessEnd - 1, depthLimit - 1, comparator),
+                    new SortTask<>(array, greaterStart + 1, higherIndex, depthLimit - 1, comparator));
+        }
+    }
+}
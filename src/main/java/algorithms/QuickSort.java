@@ -26,40 +26,148 @@ public class QuickSort {
     }
 
 
-    //recursive quick sort implementation
-    private static <T> void quickSort(T[] array,int lowerIndex, int higherIndex, Comparator<T> comparator) {
-        int leftIndex = lowerIndex;
-        int rightIndex = higherIndex;
-
-        // Choose pivot as middle element (better than first/last for sorted data)
-        T pivot = array[lowerIndex+(higherIndex-lowerIndex)/2];
-
-        //partition phase
-        while (leftIndex <= rightIndex) {
-            while (comparator.compare(array[leftIndex], pivot) < 0) {
-                leftIndex++;
+    // ranges up to this size are finished with insertion sort
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    // ranges above this size take a ninther (median of three medians) as pivot
+    private static final int NINTHER_THRESHOLD = 128;
+
+    /**
+     * Introsort: quicksort with a depth guard
+     * - pivot: median of three (ninther for big ranges)
+     * - 3-way partition, so runs of equal keys (same party, same county)
+     *   are placed once and never recursed into again
+     * - recursion only on the smaller side (stack depth O(log n)),
+     *   the larger side is handled by the loop
+     * - heapsort once the depth limit (2 * log2 n) is used up, so crafted
+     *   or badly skewed input stays O(n log n)
+     * - insertion sort for small ranges
+     */
+    private static <T> void quickSort(T[] array, int lowerIndex, int higherIndex, Comparator<T> comparator) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(higherIndex - lowerIndex + 1));
+        introSort(array, lowerIndex, higherIndex, depthLimit, comparator);
+    }
+
+    private static <T> void introSort(T[] array, int lowerIndex, int higherIndex, int depthLimit,
+                                      Comparator<T> comparator) {
+        while (higherIndex - lowerIndex + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(array, lowerIndex, higherIndex, comparator);
+                return;
+            }
+            long bounds = partition(array, lowerIndex, higherIndex, comparator);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+
+            // recurse into the smaller side, loop on the larger one
+            if (lessEnd - lowerIndex < higherIndex - greaterStart) {
+                introSort(array, lowerIndex, lessEnd - 1, depthLimit, comparator);
+                lowerIndex = greaterStart + 1;
+            } else {
+                introSort(array, greaterStart + 1, higherIndex, depthLimit, comparator);
+                higherIndex = lessEnd - 1;
             }
+        }
+        insertionSort(array, lowerIndex, higherIndex, comparator);
+    }
 
-            //find element on right which should be left
-            while (comparator.compare(array[rightIndex], pivot) > 0) {
-                rightIndex--;
+    /**
+     * Sorts array[lowerIndex..higherIndex] (inclusive) - used by
+     * ParallelQuickSort for ranges below its parallel cutoff
+     */
+    static <T> void sortRange(T[] array, int lowerIndex, int higherIndex, Comparator<T> comparator) {
+        if (lowerIndex < higherIndex) {
+            quickSort(array, lowerIndex, higherIndex, comparator);
+        }
+    }
+
+    /**
+     * Picks a pivot and 3-way partitions the range around it:
+     * [< pivot | == pivot | > pivot]
+     *
+     * @return First index of the equal block in the high 32 bits, last index
+     * of the equal block in the low 32 bits (one long, no allocation)
+     */
+    static <T> long partition(T[] array, int lowerIndex, int higherIndex, Comparator<T> comparator) {
+        swap(array, lowerIndex, choosePivot(array, lowerIndex, higherIndex, comparator));
+        T pivot = array[lowerIndex];
+
+        int lessEnd = lowerIndex;       // first element equal to the pivot
+        int greaterStart = higherIndex; // last unknown element
+        int i = lowerIndex + 1;
+        while (i <= greaterStart) {
+            int cmp = comparator.compare(array[i], pivot);
+            if (cmp < 0) {
+                swap(array, lessEnd++, i++);
+            } else if (cmp > 0) {
+                swap(array, i, greaterStart--);
+            } else {
+                i++;
             }
+        }
+        return ((long) lessEnd << 32) | (greaterStart & 0xFFFFFFFFL);
+    }
+
+    //index of the pivot: median of three, or ninther for big ranges
+    private static <T> int choosePivot(T[] array, int lowerIndex, int higherIndex, Comparator<T> comparator) {
+        int length = higherIndex - lowerIndex + 1;
+        int middle = lowerIndex + (length >>> 1);
+        if (length > NINTHER_THRESHOLD) {
+            int step = length >>> 3;
+            int first = medianOfThree(array, lowerIndex, lowerIndex + step, lowerIndex + 2 * step, comparator);
+            int second = medianOfThree(array, middle - step, middle, middle + step, comparator);
+            int third = medianOfThree(array, higherIndex - 2 * step, higherIndex - step, higherIndex, comparator);
+            return medianOfThree(array, first, second, third, comparator);
+        }
+        return medianOfThree(array, lowerIndex, middle, higherIndex, comparator);
+    }
+
+    private static <T> int medianOfThree(T[] array, int a, int b, int c, Comparator<T> comparator) {
+        if (comparator.compare(array[a], array[b]) < 0) {
+            if (comparator.compare(array[b], array[c]) < 0) return b;
+            return comparator.compare(array[a], array[c]) < 0 ? c : a;
+        }
+        if (comparator.compare(array[a], array[c]) < 0) return a;
+        return comparator.compare(array[b], array[c]) < 0 ? c : b;
+    }
 
-            //swap elements and move indices
-            if (leftIndex <= rightIndex) {
-                swap(array, leftIndex, rightIndex);
-                leftIndex++;
-                rightIndex--;
+    private static <T> void insertionSort(T[] array, int lowerIndex, int higherIndex, Comparator<T> comparator) {
+        for (int i = lowerIndex + 1; i <= higherIndex; i++) {
+            T current = array[i];
+            int j = i - 1;
+            while (j >= lowerIndex && comparator.compare(array[j], current) > 0) {
+                array[j + 1] = array[j];
+                j--;
             }
+            array[j + 1] = current;
         }
-        //recursive calls for sub arrays
-        if (lowerIndex < rightIndex) {
-            quickSort(array, lowerIndex, rightIndex, comparator);
+    }
+
+    //heapsort fallback for the range lowerIndex..higherIndex (in place, O(n log n) worst case)
+    private static <T> void heapSort(T[] array, int lowerIndex, int higherIndex, Comparator<T> comparator) {
+        int length = higherIndex - lowerIndex + 1;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(array, lowerIndex, i, length, comparator);
         }
-        if (leftIndex < higherIndex) {
-            quickSort(array, leftIndex, higherIndex, comparator);
+        for (int end = length - 1; end > 0; end--) {
+            swap(array, lowerIndex, lowerIndex + end);
+            siftDown(array, lowerIndex, 0, end, comparator);
         }
+    }
 
+    private static <T> void siftDown(T[] array, int offset, int root, int length, Comparator<T> comparator) {
+        T value = array[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < length) {
+            if (child + 1 < length && comparator.compare(array[offset + child], array[offset + child + 1]) < 0) {
+                child++;
+            }
+            if (comparator.compare(value, array[offset + child]) >= 0) {
+                break;
+            }
+            array[offset + root] = array[offset + child];
+            root = child;
+        }
+        array[offset + root] = value;
     }
 
     public static <T> void swap(T[] array, int lowerIndex, int higherIndex) {
@@ -0,0 +1,84 @@
+package algorithms;
+
+import datastructures.DynamicArray;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * LSD radix sort for records with an int key (votes, seats, year)
+ * Four counting-sort passes over the key bytes, least significant first.
+ * O(n) time, no comparisons and no comparator, stable. Passes where every
+ * key has the same byte (e.g. the top bytes of vote counts) are skipped.
+ */
+public class RadixSort {
+
+    private static final int RADIX = 256;
+    private static final int PASSES = 4; // 8 bits per pass
+
+    /**
+     * Sorts by an int key (stable)
+     */
+    public static <T> void sortByIntKey(DynamicArray<T> array, ToIntFunction<? super T> key, boolean descending) {
+        int n = array.size();
+        if (n <= 1) {
+            return;
+        }
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            int k = key.applyAsInt(array.get(i));
+            keys[i] = descending ? ~k : k;
+        }
+        KeySort.permute(array, sortedOrder(keys));
+    }
+
+    /**
+     * Stable order of the keys: element i of the result is the index of
+     * the i-th smallest key (signed int order). keys is not modified.
+     */
+    public static int[] sortedOrder(int[] keys) {
+        int n = keys.length;
+        int[] order = new int[n];
+        int[] current = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            current[i] = keys[i] ^ Integer.MIN_VALUE; // flip the sign bit: signed order as unsigned bytes
+        }
+
+        // histograms of all four bytes in one pass
+        int[][] counts = new int[PASSES][RADIX];
+        for (int k : current) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][(k >>> (pass * 8)) & 0xFF]++;
+            }
+        }
+
+        int[] nextOrder = new int[n];
+        int[] nextKeys = new int[n];
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * 8;
+            int[] count = counts[pass];
+            if (count[(current[0] >>> shift) & 0xFF] == n) {
+                continue; // every key has the same byte here
+            }
+            // bucket start positions
+            int position = 0;
+            for (int digit = 0; digit < RADIX; digit++) {
+                int c = count[digit];
+                count[digit] = position;
+                position += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int target = count[(current[i] >>> shift) & 0xFF]++;
+                nextKeys[target] = current[i];
+                nextOrder[target] = order[i];
+            }
+            int[] swap = current;
+            current = nextKeys;
+            nextKeys = swap;
+            swap = order;
+            order = nextOrder;
+            nextOrder = swap;
+        }
+        return order;
+    }
+}
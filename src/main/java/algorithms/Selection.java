@@ -0,0 +1,197 @@
+package algorithms;
+
+import datastructures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Selection algorithms: the k-th element or the best k elements without a
+ * full sort
+ * - select: quickselect (same pivot choice and 3-way partition as
+ *   QuickSort), O(n) on average, falls back to sorting the range if the
+ *   partitions stay skewed
+ * - topK / TopK: bounded heap, O(n log k) time and O(k) extra space, the
+ *   source is never reordered
+ * "Best" means first in comparator order, e.g. Comparators.BY_VOTES gives
+ * the highest vote counts. Ties keep the order in which elements were seen.
+ */
+public class Selection {
+
+    /**
+     * Rearranges array so that array[k] is the element a full sort would
+     * put there, with nothing greater before it and nothing smaller after it
+     *
+     * @return array[k]
+     */
+    public static <T> T select(T[] array, int k, Comparator<T> comparator) {
+        if (k < 0 || k >= array.length) {
+            throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + array.length);
+        }
+        int lowerIndex = 0;
+        int higherIndex = array.length - 1;
+        int depthLimit = 2 * (32 - Integer.numberOfLeadingZeros(array.length));
+        while (lowerIndex < higherIndex) {
+            if (depthLimit-- == 0) {
+                QuickSort.sortRange(array, lowerIndex, higherIndex, comparator);
+                break;
+            }
+            long bounds = QuickSort.partition(array, lowerIndex, higherIndex, comparator);
+            int lessEnd = (int) (bounds >>> 32);
+            int greaterStart = (int) bounds;
+            if (k < lessEnd) {
+                higherIndex = lessEnd - 1;
+            } else if (k > greaterStart) {
+                lowerIndex = greaterStart + 1;
+            } else {
+                break; // k falls in the block equal to the pivot
+            }
+        }
+        return array[k];
+    }
+
+    /**
+     * The k best elements of source, best first (source is not modified)
+     */
+    public static <T> DynamicArray<T> topK(DynamicArray<T> source, int k, Comparator<T> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        TopK<T> top = new TopK<>(Math.min(k, source.size()), comparator);
+        for (int i = 0; i < source.size(); i++) {
+            top.offer(source.get(i));
+        }
+        return top.toArray();
+    }
+
+    /**
+     * Bounded heap that keeps the k best elements offered so far
+     * Useful when the elements come from several collections (e.g. the
+     * candidates of every election). The root is the worst kept element,
+     * so most offers cost one comparison once the heap is full. The heap
+     * grows as elements arrive, so a large k costs only what is offered.
+     */
+    public static final class TopK<T> {
+        // initial heap capacity; doubled as needed up to k
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int k;
+        private Object[] heap;
+        private long[] sequence; // offer number of each kept element (tie-break)
+        private final Comparator<T> comparator;
+        private int size;
+        private long offered;
+
+        public TopK(int k, Comparator<T> comparator) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k cannot be negative");
+            }
+            this.k = k;
+            this.heap = new Object[Math.min(k, INITIAL_CAPACITY)];
+            this.sequence = new long[heap.length];
+            this.comparator = comparator;
+        }
+
+        public void offer(T element) {
+            long seq = offered++;
+            if (k == 0) {
+                return;
+            }
+            if (size < k) {
+                if (size == heap.length) {
+                    int capacity = (int) Math.min(k, 2L * heap.length);
+                    heap = Arrays.copyOf(heap, capacity);
+                    sequence = Arrays.copyOf(sequence, capacity);
+                }
+                heap[size] = element;
+                sequence[size] = seq;
+                siftUp(size++);
+            } else if (worse(0, element, seq)) {
+                heap[0] = element;
+                sequence[0] = seq;
+                siftDown(0);
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return The kept elements, best first
+         */
+        @SuppressWarnings("unchecked")
+        public DynamicArray<T> toArray() {
+            // heap sort: repeatedly take the worst from the root and fill
+            // the result from the back, then restore the heap
+            Object[] savedHeap = Arrays.copyOf(heap, size);
+            long[] savedSequence = Arrays.copyOf(sequence, size);
+            int savedSize = size;
+            Object[] result = new Object[size];
+            while (size > 0) {
+                result[size - 1] = heap[0];
+                size--;
+                heap[0] = heap[size];
+                sequence[0] = sequence[size];
+                siftDown(0);
+            }
+            System.arraycopy(savedHeap, 0, heap, 0, savedSize);
+            System.arraycopy(savedSequence, 0, sequence, 0, savedSize);
+            size = savedSize;
+
+            DynamicArray<T> best = new DynamicArray<>(Math.max(1, result.length));
+            for (Object element : result) {
+                best.add((T) element);
+            }
+            return best;
+        }
+
+        // true if the kept element at slot ranks after (element, seq)
+        @SuppressWarnings("unchecked")
+        private boolean worse(int slot, T element, long seq) {
+            int cmp = comparator.compare((T) heap[slot], element);
+            return cmp > 0 || (cmp == 0 && sequence[slot] > seq);
+        }
+
+        // true if slot a ranks after slot b (max-heap on "worse")
+        private boolean worse(int a, int b) {
+            @SuppressWarnings("unchecked")
+            T other = (T) heap[b];
+            return worse(a, other, sequence[b]);
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) / 2;
+                if (!worse(slot, parent)) {
+                    break;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            int child;
+            while ((child = 2 * slot + 1) < size) {
+                if (child + 1 < size && worse(child + 1, child)) {
+                    child++;
+                }
+                if (!worse(child, slot)) {
+                    break;
+                }
+                swap(slot, child);
+                slot = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            Object element = heap[a];
+            heap[a] = heap[b];
+            heap[b] = element;
+            long seq = sequence[a];
+            sequence[a] = sequence[b];
+            sequence[b] = seq;
+        }
+    }
+}
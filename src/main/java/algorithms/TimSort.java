@@ -0,0 +1,234 @@
+package algorithms;
+
+import datastructures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Stable, adaptive merge sort (TimSort-style)
+ * - finds the runs already present in the input (descending runs are
+ *   reversed), short runs are extended with binary insertion sort
+ * - runs are merged from a stack that keeps their lengths balanced
+ * - each merge first skips the prefix of the left run and the suffix of the
+ *   right run that are already in place (binary search), so adjacent runs
+ *   that are already ordered cost a binary search instead of a merge
+ * Sorted input takes n - 1 comparisons, and re-sorting after a small edit
+ * stays close to linear. Equal elements keep their order, so sorting by one
+ * key and then by another gives a multi-key order without a composite
+ * comparator.
+ */
+public class TimSort {
+
+    // runs shorter than this are extended with binary insertion sort
+    private static final int MIN_MERGE = 32;
+
+    //Sorts DynamicArray (stable)
+    public static <T> void sort(DynamicArray<T> array, Comparator<T> comparator) {
+        if (array == null || array.size() <= 1) {
+            return;
+        }
+        T[] arr = array.toArray();
+        sort(arr, 0, arr.length, comparator);
+        array.fromArray(arr);
+    }
+
+    //Sorts a regular array (stable)
+    public static <T> void sort(T[] array, Comparator<T> comparator) {
+        if (array == null) {
+            return;
+        }
+        sort(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts array[from..to-1] (stable)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sort(T[] array, int from, int to, Comparator<T> comparator) {
+        if (from < 0 || to > array.length || from > to) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        int remaining = to - from;
+        if (remaining < 2) {
+            return;
+        }
+        if (remaining < MIN_MERGE) {
+            int run = countRunAndMakeAscending(array, from, to, comparator);
+            binaryInsertionSort(array, from, to, from + run, comparator);
+            return;
+        }
+
+        int minRun = minRunLength(remaining);
+        int[] runStart = new int[40]; // lengths grow like Fibonacci, 40 covers any int size
+        int[] runLength = new int[40];
+        int stackSize = 0;
+        T[] buffer = (T[]) new Object[Math.max(1, remaining / 2)];
+
+        int low = from;
+        while (remaining > 0) {
+            int run = countRunAndMakeAscending(array, low, to, comparator);
+            if (run < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(array, low, low + forced, low + run, comparator);
+                run = forced;
+            }
+            runStart[stackSize] = low;
+            runLength[stackSize] = run;
+            stackSize++;
+
+            // keep the stack balanced: each run longer than the two above it
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n - 1] + runLength[n]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                buffer = mergeAt(array, runStart, runLength, n, buffer, comparator);
+                stackSize--;
+            }
+
+            low += run;
+            remaining -= run;
+        }
+
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                n--;
+            }
+            buffer = mergeAt(array, runStart, runLength, n, buffer, comparator);
+            stackSize--;
+        }
+    }
+
+    // merges stack runs n and n + 1 into run n, removing run n + 1 from the stack
+    private static <T> T[] mergeAt(T[] array, int[] runStart, int[] runLength, int n, T[] buffer,
+                                   Comparator<T> comparator) {
+        int start1 = runStart[n];
+        int length1 = runLength[n];
+        int start2 = runStart[n + 1];
+        int length2 = runLength[n + 1];
+
+        runLength[n] = length1 + length2;
+        if (n + 2 < runStart.length) {
+            // the run above the pair (if any) moves down one slot
+            runStart[n + 1] = runStart[n + 2];
+            runLength[n + 1] = runLength[n + 2];
+        }
+
+        // elements of run 1 that are <= run2's first element are already in place
+        int skip = upperBound(array, start1, start1 + length1, array[start2], comparator);
+        start1 = skip;
+        length1 = start2 - skip;
+        if (length1 == 0) {
+            return buffer;
+        }
+        // elements of run 2 that are >= run1's last element are already in place
+        length2 = lowerBound(array, start2, start2 + length2, array[start2 - 1], comparator) - start2;
+        if (length2 == 0) {
+            return buffer;
+        }
+
+        if (buffer.length < length1) {
+            buffer = Arrays.copyOf(buffer, length1);
+        }
+        mergeLow(array, start1, length1, start2, length2, buffer, comparator);
+        return buffer;
+    }
+
+    // merges two adjacent runs, copying the (trimmed) left run into the buffer
+    private static <T> void mergeLow(T[] array, int start1, int length1, int start2, int length2, T[] buffer,
+                                     Comparator<T> comparator) {
+        System.arraycopy(array, start1, buffer, 0, length1);
+        int left = 0;
+        int right = start2;
+        int rightEnd = start2 + length2;
+        int dest = start1;
+        while (left < length1 && right < rightEnd) {
+            // take from the right only if strictly smaller - keeps equal elements in order
+            if (comparator.compare(array[right], buffer[left]) < 0) {
+                array[dest++] = array[right++];
+            } else {
+                array[dest++] = buffer[left++];
+            }
+        }
+        System.arraycopy(buffer, left, array, dest, length1 - left);
+        Arrays.fill(buffer, 0, length1, null);
+    }
+
+    // first index in [from, to) whose element is greater than key
+    private static <T> int upperBound(T[] array, int from, int to, T key, Comparator<T> comparator) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (comparator.compare(array[mid], key) <= 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    // first index in [from, to) whose element is not less than key
+    private static <T> int lowerBound(T[] array, int from, int to, T key, Comparator<T> comparator) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (comparator.compare(array[mid], key) < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * Length of the run starting at from; a strictly descending run is
+     * reversed in place (strictly, so reversing never reorders equal elements)
+     */
+    private static <T> int countRunAndMakeAscending(T[] array, int from, int to, Comparator<T> comparator) {
+        int end = from + 1;
+        if (end == to) {
+            return 1;
+        }
+        if (comparator.compare(array[end++], array[from]) < 0) {
+            while (end < to && comparator.compare(array[end], array[end - 1]) < 0) {
+                end++;
+            }
+            for (int i = from, j = end - 1; i < j; i++, j--) {
+                QuickSort.swap(array, i, j);
+            }
+        } else {
+            while (end < to && comparator.compare(array[end], array[end - 1]) >= 0) {
+                end++;
+            }
+        }
+        return end - from;
+    }
+
+    // sorts [from, to) given that [from, sortedEnd) is already sorted
+    private static <T> void binaryInsertionSort(T[] array, int from, int to, int sortedEnd,
+                                                Comparator<T> comparator) {
+        for (int i = sortedEnd; i < to; i++) {
+            T pivot = array[i];
+            int position = upperBound(array, from, i, pivot, comparator); // after equal elements: stable
+            System.arraycopy(array, position, array, position + 1, i - position);
+            array[position] = pivot;
+        }
+    }
+
+    // run length between MIN_MERGE/2 and MIN_MERGE so n / minRun is close to a power of two
+    private static int minRunLength(int n) {
+        int lowBits = 0;
+        while (n >= MIN_MERGE) {
+            lowBits |= n & 1;
+            n >>= 1;
+        }
+        return n + lowBits;
+    }
+}
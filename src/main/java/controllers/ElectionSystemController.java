@@ -1,8 +1,23 @@
 package controllers;
 
+import algorithms.IndexSort;
+import algorithms.KeySort;
+import algorithms.KeyedComparator;
+import algorithms.ParallelQuickSort;
 import algorithms.QuickSort;
+import algorithms.Selection;
+import algorithms.TimSort;
+import datastructures.DistinctValues;
 import datastructures.DynamicArray;
 import datastructures.HashTable;
+import datastructures.IntDynamicArray;
+import datastructures.IntObjectHashTable;
+import datastructures.KeyValueTable;
+import datastructures.LongDynamicArray;
+import datastructures.ObjectIntHashTable;
+import datastructures.ObjectLongHashTable;
+import datastructures.PersistentHashTable;
+import datastructures.SortedView;
 import models.Candidate;
 import models.Election;
 import models.ElectionType;
@@ -11,6 +26,9 @@ import utils.Comparators;
 
 import java.io.*;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Main Controller for the Elections Information System
@@ -20,13 +38,32 @@ import java.util.Comparator;
 public class ElectionSystemController {
 
     // Hash tables for fast lookup by unique identifiers
-    private HashTable<String, Politician> politiciansByName;
-    private HashTable<String, Election> electionsByID;
+    // (any KeyValueTable engine works, e.g. OpenAddressingHashTable)
+    private KeyValueTable<String, Politician> politiciansByName;
+    private KeyValueTable<String, Election> electionsByID;
 
     // Additional storage for filtering/searching
     private DynamicArray<Politician> allPoliticians;
     private DynamicArray<Election> allElections;
 
+    // Lists at least this long are filtered / aggregated with parallel streams
+    // and sorted on all cores (below it the fork/join overhead costs
+    // more than it saves, see DynamicArrayStreamBenchmark, ParallelSortBenchmark)
+    private static final int PARALLEL_THRESHOLD = 20_000;
+
+    // Immutable snapshots of the two tables, republished after every mutation
+    // so readers (UI, reports) can hold a stable view while edits go on.
+    // Not saved - rebuilt from the tables on load.
+    private transient volatile PersistentHashTable<String, Politician> politicianSnapshot;
+    private transient volatile PersistentHashTable<String, Election> electionSnapshot;
+
+    // Distinct parties, counties and election years (with counts), updated
+    // on every change so the filter combo boxes never scan the lists.
+    // Not saved - rebuilt from the lists on load.
+    private transient DistinctValues<String> parties;
+    private transient DistinctValues<String> counties;
+    private transient DistinctValues<String> electionYears;
+
     /**
      * Constructor - initializes data structures
      */
@@ -35,6 +72,86 @@ public class ElectionSystemController {
         electionsByID = new HashTable<>(101);
         allPoliticians = new DynamicArray<>();
         allElections = new DynamicArray<>();
+        politicianSnapshot = PersistentHashTable.empty();
+        electionSnapshot = PersistentHashTable.empty();
+        rebuildDistinctValues();
+        enableNameIndex();
+    }
+
+    /**
+     * Constructor for loading a known amount of data
+     * Tables are sized once so the load never triggers a rehash
+     *
+     * @param expectedPoliticians Number of politicians that will be added
+     * @param expectedElections   Number of elections that will be added
+     */
+    public ElectionSystemController(int expectedPoliticians, int expectedElections) {
+        politiciansByName = HashTable.withExpectedSize(expectedPoliticians);
+        electionsByID = HashTable.withExpectedSize(expectedElections);
+        allPoliticians = new DynamicArray<>(Math.max(1, expectedPoliticians));
+        allElections = new DynamicArray<>(Math.max(1, expectedElections));
+        politicianSnapshot = PersistentHashTable.empty();
+        electionSnapshot = PersistentHashTable.empty();
+        rebuildDistinctValues();
+        enableNameIndex();
+    }
+
+    /**
+     * Turns on the trigram index for partial-name search
+     * (searchPoliticiansByName runs on every keystroke of the politician list)
+     */
+    private void enableNameIndex() {
+        if (politiciansByName instanceof HashTable<String, Politician> table
+                && !table.isSubstringIndexEnabled()) {
+            table.enableSubstringIndex();
+        }
+    }
+
+    /**
+     * Called by XStream after loading - data files saved before the
+     * name index existed get it switched on here, and the snapshots and
+     * distinct values (which are not saved) are rebuilt
+     */
+    private Object readResolve() {
+        enableNameIndex();
+        politicianSnapshot = PersistentHashTable.copyOf(politiciansByName);
+        electionSnapshot = PersistentHashTable.copyOf(electionsByID);
+        rebuildDistinctValues();
+        return this;
+    }
+
+    // one pass over each list
+    private void rebuildDistinctValues() {
+        parties = DistinctValues.of(allPoliticians, Politician::getPoliticalParty);
+        counties = DistinctValues.of(allPoliticians, Politician::getHomeCounty);
+        electionYears = DistinctValues.of(allElections, Election::getYear);
+    }
+
+    private void countPolitician(Politician politician) {
+        parties.add(politician.getPoliticalParty());
+        counties.add(politician.getHomeCounty());
+    }
+
+    private void uncountPolitician(Politician politician) {
+        parties.remove(politician.getPoliticalParty());
+        counties.remove(politician.getHomeCounty());
+    }
+
+    /**
+     * Stable read-only view of the politicians table
+     * The returned version never changes; later edits publish a new one.
+     * Versions share structure, so taking a snapshot is free.
+     * (The Politician objects themselves are shared, not copied.)
+     */
+    public PersistentHashTable<String, Politician> getPoliticianSnapshot() {
+        return politicianSnapshot;
+    }
+
+    /**
+     * Stable read-only view of the elections table (see getPoliticianSnapshot)
+     */
+    public PersistentHashTable<String, Election> getElectionSnapshot() {
+        return electionSnapshot;
     }
 
     // ==================== POLITICIAN OPERATIONS ====================
@@ -46,13 +163,16 @@ public class ElectionSystemController {
      */
     public boolean addPolitician(String name, String dateOfBirth, String politicalParty,
                                  String homeCounty, String imageUrl) {
-        if (politiciansByName.containsKey(name)) {
+        // one probe: the politician is only built (and inserted) if the name is free
+        int sizeBefore = politiciansByName.size();
+        Politician politician = politiciansByName.computeIfAbsent(name,
+                key -> new Politician(key, dateOfBirth, politicalParty, homeCounty, imageUrl));
+        if (politiciansByName.size() == sizeBefore) {
             return false; // Politician already exists
         }
-
-        Politician politician = new Politician(name, dateOfBirth, politicalParty, homeCounty, imageUrl);
-        politiciansByName.put(name, politician);
         allPoliticians.add(politician);
+        countPolitician(politician);
+        politicianSnapshot = politicianSnapshot.put(name, politician);
         return true;
     }
 
@@ -60,14 +180,48 @@ public class ElectionSystemController {
      * Add an existing Politician object
      */
     public boolean addPolitician(Politician politician) {
-        if (politician == null || politiciansByName.containsKey(politician.getName())) {
+        if (politician == null || politiciansByName.putIfAbsent(politician.getName(), politician) != null) {
             return false;
         }
-        politiciansByName.put(politician.getName(), politician);
         allPoliticians.add(politician);
+        countPolitician(politician);
+        politicianSnapshot = politicianSnapshot.put(politician.getName(), politician);
         return true;
     }
 
+    /**
+     * Batch import of politicians
+     * Same rules as addPolitician (existing names and repeated names in the
+     * batch are skipped, first one wins), but the hash table is filled with
+     * one bulk putAll instead of one put per politician.
+     *
+     * @return Number of politicians added
+     */
+    public int addPoliticians(DynamicArray<Politician> batch) {
+        HashTable<String, Politician> accepted = HashTable.withExpectedSize(batch.size());
+        DynamicArray<Politician> toAdd = new DynamicArray<>(Math.max(1, batch.size()));
+
+        for (int i = 0; i < batch.size(); i++) {
+            Politician politician = batch.get(i);
+            if (politician == null
+                    || politiciansByName.containsKey(politician.getName())
+                    || accepted.putIfAbsent(politician.getName(), politician) != null) {
+                continue;
+            }
+            toAdd.add(politician);
+        }
+
+        politiciansByName.putAll(toAdd, Politician::getName);
+        allPoliticians.addAll(toAdd);
+        PersistentHashTable<String, Politician> snapshot = politicianSnapshot;
+        for (int i = 0; i < toAdd.size(); i++) {
+            snapshot = snapshot.put(toAdd.get(i).getName(), toAdd.get(i));
+            countPolitician(toAdd.get(i));
+        }
+        politicianSnapshot = snapshot;
+        return toAdd.size();
+    }
+
     /**
      * Get politician by exact name (uses hashing for O(1) lookup)
      */
@@ -86,16 +240,25 @@ public class ElectionSystemController {
         }
 
         // If name changed, update hash table key
+        // (refused if another politician already has the new name)
         if (!originalName.equals(newName)) {
+            politician.setName(newName); // validates the new name first
+            if (politiciansByName.putIfAbsent(newName, politician) != null) {
+                politician.setName(originalName);
+                return false;
+            }
             politiciansByName.remove(originalName);
-            politician.setName(newName);
-            politiciansByName.put(newName, politician);
+            politicianSnapshot = politicianSnapshot.remove(originalName).put(newName, politician);
         }
 
+        String oldParty = politician.getPoliticalParty();
+        String oldCounty = politician.getHomeCounty();
         politician.setDateOfBirth(dateOfBirth);
         politician.setPoliticalParty(politicalParty);
         politician.setHomeCounty(homeCounty);
         politician.setImageUrl(imageUrl);
+        parties.replace(oldParty, politician.getPoliticalParty());
+        counties.replace(oldCounty, politician.getHomeCounty());
         return true;
     }
 
@@ -117,14 +280,18 @@ public class ElectionSystemController {
         // Remove from hash table and list
         politiciansByName.remove(name);
         allPoliticians.remove(politician);
+        uncountPolitician(politician);
+        politicianSnapshot = politicianSnapshot.remove(name);
         return true;
     }
 
     /**
      * Get all politicians
+     * Returns a copy-on-write copy (O(1)): callers may sort or edit it
+     * without touching the controller's own list
      */
     public DynamicArray<Politician> getAllPoliticians() {
-        return allPoliticians;
+        return allPoliticians.copyOnWrite();
     }
 
     // ==================== ELECTION OPERATIONS ====================
@@ -136,12 +303,12 @@ public class ElectionSystemController {
         Election election = new Election(type, location, date, numberOfSeats);
         String electionId = election.getElectionId();
 
-        if (electionsByID.containsKey(electionId)) {
+        if (electionsByID.putIfAbsent(electionId, election) != null) {
             return false; // Election already exists
         }
-
-        electionsByID.put(electionId, election);
         allElections.add(election);
+        electionYears.add(election.getYear());
+        electionSnapshot = electionSnapshot.put(electionId, election);
         return true;
     }
 
@@ -149,14 +316,46 @@ public class ElectionSystemController {
      * Add existing Election object
      */
     public boolean addElection(Election election) {
-        if (election == null || electionsByID.containsKey(election.getElectionId())) {
+        if (election == null || electionsByID.putIfAbsent(election.getElectionId(), election) != null) {
             return false;
         }
-        electionsByID.put(election.getElectionId(), election);
         allElections.add(election);
+        electionYears.add(election.getYear());
+        electionSnapshot = electionSnapshot.put(election.getElectionId(), election);
         return true;
     }
 
+    /**
+     * Batch import of elections
+     * Same rules as addElection(Election), filled with one bulk putAll
+     *
+     * @return Number of elections added
+     */
+    public int addElections(DynamicArray<Election> batch) {
+        HashTable<String, Election> accepted = HashTable.withExpectedSize(batch.size());
+        DynamicArray<Election> toAdd = new DynamicArray<>(Math.max(1, batch.size()));
+
+        for (int i = 0; i < batch.size(); i++) {
+            Election election = batch.get(i);
+            if (election == null
+                    || electionsByID.containsKey(election.getElectionId())
+                    || accepted.putIfAbsent(election.getElectionId(), election) != null) {
+                continue;
+            }
+            toAdd.add(election);
+        }
+
+        electionsByID.putAll(toAdd, Election::getElectionId);
+        allElections.addAll(toAdd);
+        PersistentHashTable<String, Election> snapshot = electionSnapshot;
+        for (int i = 0; i < toAdd.size(); i++) {
+            snapshot = snapshot.put(toAdd.get(i).getElectionId(), toAdd.get(i));
+            electionYears.add(toAdd.get(i).getYear());
+        }
+        electionSnapshot = snapshot;
+        return toAdd.size();
+    }
+
     /**
      * Get election by ID (uses hashing for O(1) lookup)
      */
@@ -174,19 +373,45 @@ public class ElectionSystemController {
             return false;
         }
 
-        // Remove old ID
-        electionsByID.remove(originalId);
+        // Update election (ID regenerates automatically)
+        ElectionType oldType = election.getElectionType();
+        String oldLocation = election.getLocation();
+        String oldDate = election.getDate();
+        String oldYear = election.getYear();
+        int oldSeats = election.getNumberOfSeats();
+        try {
+            election.setType(type);
+            election.setLocation(location);
+            election.setDate(date);
+            election.setNumberOfSeats(numberOfSeats);
+        } catch (IllegalArgumentException e) {
+            restoreElection(election, oldType, oldLocation, oldDate, oldSeats, originalId);
+            throw e;
+        }
+
+        // If the ID changed, update hash table key
+        // (refused if another election already has the new ID)
+        String newId = election.getElectionId();
+        if (!originalId.equals(newId)) {
+            if (electionsByID.putIfAbsent(newId, election) != null) {
+                restoreElection(election, oldType, oldLocation, oldDate, oldSeats, originalId);
+                return false;
+            }
+            electionsByID.remove(originalId);
+            electionSnapshot = electionSnapshot.remove(originalId).put(newId, election);
+        }
+        electionYears.replace(oldYear, election.getYear());
+        return true;
+    }
 
-        // Update election
+    // puts back the fields updateElection changed
+    private void restoreElection(Election election, ElectionType type, String location, String date,
+                                 int numberOfSeats, String electionId) {
         election.setType(type);
         election.setLocation(location);
         election.setDate(date);
         election.setNumberOfSeats(numberOfSeats);
-
-        // Add with new ID (ID regenerates automatically)
-        String newId = election.getElectionId();
-        electionsByID.put(newId, election);
-        return true;
+        election.setElectionId(electionId);
     }
 
     /**
@@ -200,6 +425,8 @@ public class ElectionSystemController {
 
         electionsByID.remove(electionId);
         allElections.remove(election);
+        electionYears.remove(election.getYear());
+        electionSnapshot = electionSnapshot.remove(electionId);
         return true;
     }
 
@@ -211,17 +438,23 @@ public class ElectionSystemController {
 
         // Remove from hash table
         electionsByID.remove(election.getElectionId());
+        electionSnapshot = electionSnapshot.remove(election.getElectionId());
 
         // Remove from array
-        return allElections.remove(election);
+        if (!allElections.remove(election)) {
+            return false;
+        }
+        electionYears.remove(election.getYear());
+        return true;
     }
 
 
     /**
      * Get all elections
+     * Returns a copy-on-write copy (O(1)), see getAllPoliticians()
      */
     public DynamicArray<Election> getAllElections() {
-        return allElections;
+        return allElections.copyOnWrite();
     }
 
     // ==================== CANDIDATE OPERATIONS ====================
@@ -339,38 +572,32 @@ public class ElectionSystemController {
      * Simple search for elections by free text.
      * Uses hash table internally.
      * Matches by:
-     * - electionId (через searchByPartialKey)
+     * - electionId (ID matches come first)
      * - location
      * - year
+     * Walks the table entries directly, no intermediate arrays are built
      */
     public DynamicArray<Election> searchElectionsSimple(String term) {
-        DynamicArray<Election> results = new DynamicArray<>();
-
         if (term == null || term.trim().isEmpty()) {
             return electionsByID.values();
         }
 
-        String search = term.toLowerCase().trim();
-
-        DynamicArray<Election> byId = electionsByID.searchByPartialKey(term);
-        for (int i = 0; i < byId.size(); i++) {
-            results.add(byId.get(i));
-        }
-
-        DynamicArray<Election> all = electionsByID.values();
-        for (int i = 0; i < all.size(); i++) {
-            Election e = all.get(i);
-
-            if (results.contains(e)) {
-                continue;
-            }
+        DynamicArray<Election> results = new DynamicArray<>();
+        DynamicArray<Election> otherMatches = new DynamicArray<>();
+        String idSearch = term.toLowerCase();
+        String search = idSearch.trim();
 
-            if (e.getLocation().toLowerCase().contains(search) ||
-                    e.getYear().toLowerCase().contains(search)) {
+        // One pass: ID matches, then location / year matches not already found by ID
+        electionsByID.forEach((id, e) -> {
+            if (id.toLowerCase().contains(idSearch)) {
                 results.add(e);
+            } else if (e.getLocation().toLowerCase().contains(search) ||
+                    e.getYear().toLowerCase().contains(search)) {
+                otherMatches.add(e);
             }
-        }
+        });
 
+        results.addAll(otherMatches);
         return results;
     }
 
@@ -379,32 +606,16 @@ public class ElectionSystemController {
      * Filter politicians by party
      */
     public DynamicArray<Politician> filterPoliticiansByParty(String party) {
-        DynamicArray<Politician> results = new DynamicArray<>();
         String searchParty = party.trim();
-
-        for (int i = 0; i < allPoliticians.size(); i++) {
-            Politician p = allPoliticians.get(i);
-            if (p.getPoliticalParty().equalsIgnoreCase(searchParty)) {
-                results.add(p);
-            }
-        }
-        return results;
+        return filter(allPoliticians, p -> p.getPoliticalParty().equalsIgnoreCase(searchParty));
     }
 
     /**
      * Filter politicians by county
      */
     public DynamicArray<Politician> filterPoliticiansByCounty(String county) {
-        DynamicArray<Politician> results = new DynamicArray<>();
         String searchCounty = county.trim();
-
-        for (int i = 0; i < allPoliticians.size(); i++) {
-            Politician p = allPoliticians.get(i);
-            if (p.getHomeCounty().equalsIgnoreCase(searchCounty)) {
-                results.add(p);
-            }
-        }
-        return results;
+        return filter(allPoliticians, p -> p.getHomeCounty().equalsIgnoreCase(searchCounty));
     }
 
     /**
@@ -415,68 +626,32 @@ public class ElectionSystemController {
      * @param county County name (null to ignore)
      */
     public DynamicArray<Politician> searchPoliticians(String name, String party, String county) {
-        DynamicArray<Politician> results = new DynamicArray<>();
-
-        for (int i = 0; i < allPoliticians.size(); i++) {
-            Politician p = allPoliticians.get(i);
-            boolean matches = true;
-
-            // Check name if provided
-            if (name != null && !name.trim().isEmpty()) {
-                if (!p.getName().toLowerCase().contains(name.toLowerCase())) {
-                    matches = false;
-                }
-            }
+        // criteria are normalised once, not per politician
+        String searchName = (name != null && !name.trim().isEmpty()) ? name.toLowerCase() : null;
+        String searchParty = (party != null && !party.trim().isEmpty()) ? party.trim() : null;
+        String searchCounty = (county != null && !county.trim().isEmpty()) ? county.trim() : null;
 
-            // Check party if provided
-            if (party != null && !party.trim().isEmpty()) {
-                if (!p.getPoliticalParty().equalsIgnoreCase(party.trim())) {
-                    matches = false;
-                }
-            }
-
-            // Check county if provided
-            if (county != null && !county.trim().isEmpty()) {
-                if (!p.getHomeCounty().equalsIgnoreCase(county.trim())) {
-                    matches = false;
-                }
-            }
-
-            if (matches) {
-                results.add(p);
-            }
-        }
-        return results;
+        return filter(allPoliticians, p ->
+                // Check name if provided
+                (searchName == null || p.getName().toLowerCase().contains(searchName))
+                // Check party if provided
+                && (searchParty == null || p.getPoliticalParty().equalsIgnoreCase(searchParty))
+                // Check county if provided
+                && (searchCounty == null || p.getHomeCounty().equalsIgnoreCase(searchCounty)));
     }
 
     /**
      * Filter elections by type
      */
     public DynamicArray<Election> filterElectionsByType(ElectionType type) {
-        DynamicArray<Election> results = new DynamicArray<>();
-
-        for (int i = 0; i < allElections.size(); i++) {
-            Election e = allElections.get(i);
-            if (e.getElectionType() == type) {
-                results.add(e);
-            }
-        }
-        return results;
+        return filter(allElections, e -> e.getElectionType() == type);
     }
 
     /**
      * Filter elections by year
      */
     public DynamicArray<Election> filterElectionsByYear(String year) {
-        DynamicArray<Election> results = new DynamicArray<>();
-
-        for (int i = 0; i < allElections.size(); i++) {
-            Election e = allElections.get(i);
-            if (e.getYear().equals(year)) {
-                results.add(e);
-            }
-        }
-        return results;
+        return filter(allElections, e -> e.getYear().equals(year));
     }
 
     /**
@@ -487,36 +662,33 @@ public class ElectionSystemController {
      * @param location Location (null to ignore)
      */
     public DynamicArray<Election> searchElections(ElectionType type, String year, String location) {
-        DynamicArray<Election> results = new DynamicArray<>();
-
-        for (int i = 0; i < allElections.size(); i++) {
-            Election e = allElections.get(i);
-            boolean matches = true;
-
-            // Check type if provided
-            if (type != null && e.getElectionType() != type) {
-                matches = false;
-            }
+        // criteria are normalised once, not per election
+        String searchYear = (year != null && !year.trim().isEmpty()) ? year.trim() : null;
+        String searchLocation = (location != null && !location.trim().isEmpty()) ? location.toLowerCase() : null;
 
-            // Check year if provided
-            if (year != null && !year.trim().isEmpty()) {
-                if (!e.getYear().equals(year.trim())) {
-                    matches = false;
-                }
-            }
+        return filter(allElections, e ->
+                // Check type if provided
+                (type == null || e.getElectionType() == type)
+                // Check year if provided
+                && (searchYear == null || e.getYear().equals(searchYear))
+                // Check location if provided
+                && (searchLocation == null || e.getLocation().toLowerCase().contains(searchLocation)));
+    }
 
-            // Check location if provided
-            if (location != null && !location.trim().isEmpty()) {
-                if (!e.getLocation().toLowerCase().contains(location.toLowerCase())) {
-                    matches = false;
-                }
-            }
+    /**
+     * Stream over a list - parallel once it reaches PARALLEL_THRESHOLD
+     * (and only if there is more than one worker thread)
+     */
+    private static <T> Stream<T> streamOf(DynamicArray<T> list) {
+        boolean parallel = list.size() >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+        return parallel ? list.parallelStream() : list.stream();
+    }
 
-            if (matches) {
-                results.add(e);
-            }
-        }
-        return results;
+    /**
+     * Elements matching the test, in list order
+     */
+    private static <T> DynamicArray<T> filter(DynamicArray<T> list, Predicate<? super T> test) {
+        return streamOf(list).filter(test).collect(DynamicArray.collector());
     }
 
     // ==================== SORTING OPERATIONS ====================
@@ -530,7 +702,7 @@ public class ElectionSystemController {
      */
     public void sortPoliticians(DynamicArray<Politician> politicians, String sortBy, boolean ascending) {
         Comparator<Politician> comparator = Comparators.getPoliticianComparator(sortBy, ascending);
-        QuickSort.sort(politicians, comparator);
+        sort(politicians, comparator);
     }
 
     /**
@@ -542,24 +714,97 @@ public class ElectionSystemController {
      */
     public void sortElections(DynamicArray<Election> elections, String sortBy, boolean ascending) {
         Comparator<Election> comparator = Comparators.getElectionComparator(sortBy, ascending);
-        QuickSort.sort(elections, comparator);
+        sort(elections, comparator);
     }
 
     /**
      * Sort candidates in an election by votes (descending by default)
+     * Stable, like sortCandidates
      */
     public void sortCandidatesByVotes(Election election) {
         if (election == null) return;
         DynamicArray<Candidate> candidates = election.getCandidates();
-        QuickSort.sort(candidates, Comparators.BY_VOTES);
+        sortStable(candidates, Comparators.BY_VOTES);
     }
 
     /**
      * Sort candidates by custom criteria
+     * Stable: candidates that tie keep their previous order, so sorting by
+     * votes and then by party gives party order with votes inside each party
      */
     public void sortCandidates(DynamicArray<Candidate> candidates, String sortBy, boolean ascending) {
         Comparator<Candidate> comparator = Comparators.getCandidateComparator(sortBy, ascending);
-        QuickSort.sort(candidates, comparator);
+        sortStable(candidates, comparator);
+    }
+
+    /**
+     * Candidates in sorted order without reordering the list itself
+     * (same criteria as sortCandidates). The election's own order, which
+     * other screens rely on, is left alone.
+     */
+    public SortedView<Candidate> sortedCandidates(DynamicArray<Candidate> candidates, String sortBy,
+                                                  boolean ascending) {
+        return IndexSort.sortedView(candidates, Comparators.getCandidateComparator(sortBy, ascending));
+    }
+
+    // comparators with an extractable key are sorted on precomputed keys (KeySort,
+    // which extracts and sorts the keys on all cores from the same threshold),
+    // other big lists with ParallelQuickSort (same threshold as the parallel filters)
+    private <T> void sort(DynamicArray<T> array, Comparator<T> comparator) {
+        if (comparator instanceof KeyedComparator<T> keyed) {
+            KeySort.sort(array, keyed);
+        } else if (array.size() >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ParallelQuickSort.sort(array, comparator);
+        } else {
+            QuickSort.sort(array, comparator);
+        }
+    }
+
+    // stable sort - KeySort is stable too
+    private <T> void sortStable(DynamicArray<T> array, Comparator<T> comparator) {
+        if (comparator instanceof KeyedComparator<T> keyed) {
+            KeySort.sort(array, keyed);
+        } else {
+            TimSort.sort(array, comparator);
+        }
+    }
+
+    // ==================== RANKING ====================
+    // Bounded-heap selection, O(n log k) - the candidate lists are never reordered
+
+    /**
+     * Get the winners of an election (the numberOfSeats candidates with the
+     * most votes, best first). Works whether or not the candidates are sorted;
+     * ties go to the candidate listed first, as in Election.isWinner
+     *
+     * @return Winners, empty if the election does not exist
+     */
+    public DynamicArray<Candidate> getWinners(String electionId) {
+        Election election = electionsByID.get(electionId);
+        if (election == null) return new DynamicArray<>(1);
+
+        return Selection.topK(election.getCandidates(), election.getNumberOfSeats(), Comparators.BY_VOTES);
+    }
+
+    /**
+     * Get the k candidates with the most votes across all elections, best first
+     */
+    public DynamicArray<Candidate> topCandidatesByVotes(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k cannot be negative");
+        }
+        int total = 0;
+        for (int i = 0; i < allElections.size(); i++) {
+            total += allElections.get(i).getCandidates().size();
+        }
+        Selection.TopK<Candidate> top = new Selection.TopK<>(Math.min(k, total), Comparators.BY_VOTES);
+        for (int i = 0; i < allElections.size(); i++) {
+            DynamicArray<Candidate> candidates = allElections.get(i).getCandidates();
+            for (int j = 0; j < candidates.size(); j++) {
+                top.offer(candidates.get(j));
+            }
+        }
+        return top.toArray();
     }
 
     // ==================== UTILITY METHODS ====================
@@ -582,54 +827,147 @@ public class ElectionSystemController {
      * Get all unique parties in the system
      */
     public DynamicArray<String> getAllParties() {
-        DynamicArray<String> parties = new DynamicArray<>();
-
-        for (int i = 0; i < allPoliticians.size(); i++) {
-            String party = allPoliticians.get(i).getPoliticalParty();
-            if (!parties.contains(party)) {
-                parties.add(party);
-            }
-        }
+        DynamicArray<String> result = parties.values();
 
         // Sort alphabetically
-        QuickSort.sort(parties, (a, b) -> a.compareToIgnoreCase(b));
-        return parties;
+        QuickSort.sort(result, (a, b) -> a.compareToIgnoreCase(b));
+        return result;
     }
 
     /**
      * Get all unique counties in the system
      */
     public DynamicArray<String> getAllCounties() {
-        DynamicArray<String> counties = new DynamicArray<>();
-
-        for (int i = 0; i < allPoliticians.size(); i++) {
-            String county = allPoliticians.get(i).getHomeCounty();
-            if (!counties.contains(county)) {
-                counties.add(county);
-            }
-        }
+        DynamicArray<String> result = counties.values();
 
         // Sort alphabetically
-        QuickSort.sort(counties, (a, b) -> a.compareToIgnoreCase(b));
-        return counties;
+        QuickSort.sort(result, (a, b) -> a.compareToIgnoreCase(b));
+        return result;
     }
 
     /**
      * Get all unique years from elections
      */
     public DynamicArray<String> getAllElectionYears() {
-        DynamicArray<String> years = new DynamicArray<>();
+        DynamicArray<String> years = electionYears.values();
+
+        // Sort descending (most recent first)
+        QuickSort.sort(years, (a, b) -> b.compareTo(a));
+        return years;
+    }
 
+    // ==================== STATISTICS ====================
+    // Tallies use primitive-valued tables, so adding up votes never boxes
+
+    /**
+     * Get total votes cast in one election
+     *
+     * @return Sum of all candidates' votes, or 0 if the election does not exist
+     */
+    public long getTotalVotes(String electionId) {
+        Election election = electionsByID.get(electionId);
+        if (election == null) return 0;
+
+        DynamicArray<Candidate> candidates = election.getCandidates();
+        long total = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            total += candidates.get(i).getVotes();
+        }
+        return total;
+    }
+
+    /**
+     * Get the vote counts of one election as a primitive column
+     * (same order as election.getCandidates())
+     *
+     * @return Vote counts, empty if the election does not exist
+     */
+    public IntDynamicArray getVoteCounts(String electionId) {
+        Election election = electionsByID.get(electionId);
+        if (election == null) return new IntDynamicArray(1);
+
+        DynamicArray<Candidate> candidates = election.getCandidates();
+        IntDynamicArray votes = new IntDynamicArray(Math.max(1, candidates.size()));
+        for (int i = 0; i < candidates.size(); i++) {
+            votes.add(candidates.get(i).getVotes());
+        }
+        return votes;
+    }
+
+    /**
+     * Get total votes of every election, aligned with getAllElections()
+     * (element i is the total of getAllElections().get(i))
+     */
+    public LongDynamicArray getVoteTotalsPerElection() {
+        LongDynamicArray totals = new LongDynamicArray(Math.max(1, allElections.size()));
         for (int i = 0; i < allElections.size(); i++) {
-            String year = allElections.get(i).getYear();
-            if (!years.contains(year)) {
-                years.add(year);
+            DynamicArray<Candidate> candidates = allElections.get(i).getCandidates();
+            long total = 0;
+            for (int j = 0; j < candidates.size(); j++) {
+                total += candidates.get(j).getVotes();
             }
+            totals.add(total);
         }
+        return totals;
+    }
 
-        // Sort descending (most recent first)
-        QuickSort.sort(years, (a, b) -> b.compareTo(a));
-        return years;
+    /**
+     * Get total votes per party across all elections
+     * Votes are credited to the party the candidate ran for at the time
+     */
+    public ObjectLongHashTable<String> getVoteTotalsByParty() {
+        // each worker tallies its share of elections, partial tallies are added up
+        return streamOf(allElections).collect(ObjectLongHashTable::new, (totals, election) -> {
+            DynamicArray<Candidate> candidates = election.getCandidates();
+            for (int j = 0; j < candidates.size(); j++) {
+                Candidate c = candidates.get(j);
+                totals.addTo(c.getPartyAtTime(), c.getVotes());
+            }
+        }, ObjectLongHashTable::addAll);
+    }
+
+    /**
+     * Get total votes per home county of the candidates across all elections
+     */
+    public ObjectLongHashTable<String> getVoteTotalsByCounty() {
+        return streamOf(allElections).collect(ObjectLongHashTable::new, (totals, election) -> {
+            DynamicArray<Candidate> candidates = election.getCandidates();
+            for (int j = 0; j < candidates.size(); j++) {
+                Candidate c = candidates.get(j);
+                totals.addTo(c.getPolitician().getHomeCounty(), c.getVotes());
+            }
+        }, ObjectLongHashTable::addAll);
+    }
+
+    /**
+     * Get number of elections each politician has stood in
+     * Politicians who never stood are not included
+     */
+    public ObjectIntHashTable<String> getCandidacyCounts() {
+        return streamOf(allElections).collect(ObjectIntHashTable::new, (counts, election) -> {
+            DynamicArray<Candidate> candidates = election.getCandidates();
+            for (int j = 0; j < candidates.size(); j++) {
+                counts.increment(candidates.get(j).getPoliticianName());
+            }
+        }, ObjectIntHashTable::addAll);
+    }
+
+    /**
+     * Group elections by year (year as a primitive int key)
+     */
+    public IntObjectHashTable<DynamicArray<Election>> getElectionsByYear() {
+        IntObjectHashTable<DynamicArray<Election>> byYear = new IntObjectHashTable<>();
+        for (int i = 0; i < allElections.size(); i++) {
+            Election election = allElections.get(i);
+            int year = Integer.parseInt(election.getYear());
+            DynamicArray<Election> group = byYear.get(year);
+            if (group == null) {
+                group = new DynamicArray<>(4);
+                byYear.put(year, group);
+            }
+            group.add(election);
+        }
+        return byYear;
     }
 
     /**
@@ -640,6 +978,11 @@ public class ElectionSystemController {
         electionsByID.clear();
         allPoliticians.clear();
         allElections.clear();
+        politicianSnapshot = PersistentHashTable.empty();
+        electionSnapshot = PersistentHashTable.empty();
+        parties.clear();
+        counties.clear();
+        electionYears.clear();
     }
 
 
@@ -0,0 +1,45 @@
+package datastructures;
+
+/**
+ * Legacy hash strategy (as per course notes)
+ * For Strings: sums character codes
+ * For other objects: uses hashCode()
+ * Index is the hash modulo the table size, tables grow to 2n+1 to stay odd.
+ * Anagrams ("CAT", "ACT", "TAC") always collide - only use this when the
+ * old slot layout is needed.
+ */
+public class CharacterSumHashStrategy implements HashStrategy {
+
+    @Override
+    public int hash(Object key) {
+        if (key instanceof String) {
+            String strKey = (String) key;
+            int total = 0;
+            for (int i = 0; i < strKey.length(); i++) {
+                total += strKey.charAt(i);
+            }
+            return total;
+        }
+        return key.hashCode();
+    }
+
+    @Override
+    public int indexFor(int hash, int capacity) {
+        return Math.abs(hash % capacity);
+    }
+
+    @Override
+    public int tableSizeFor(int requestedCapacity) {
+        return requestedCapacity;
+    }
+
+    @Override
+    public int nextTableSize(int currentCapacity) {
+        return currentCapacity * 2 + 1; // Keep odd for better distribution
+    }
+
+    @Override
+    public String toString() {
+        return "CharacterSumHashStrategy";
+    }
+}
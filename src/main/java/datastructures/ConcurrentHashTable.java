@@ -0,0 +1,553 @@
+package datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Thread-safe Hash Table using Lock Striping
+ * The table is split into segments, each one a small chained hash table
+ * guarded by its own lock. Writers only lock the segment their key hashes to,
+ * readers take no lock at all.
+ * Key Features:
+ * - Lock-free get/containsKey (volatile reads of published buckets)
+ * - Writers on different segments never block each other
+ * - Segments resize independently; readers keep using the old bucket
+ *   array until the new one is published
+ * - Same public API as HashTable (keys/values/search are weakly consistent)
+ * - putIfAbsent / computeIfAbsent / compute / merge are atomic per key
+ *
+ * @param <K> Key type (must have meaningful hashCode and equals)
+ * @param <V> Value type
+ */
+public class ConcurrentHashTable<K, V> implements KeyValueTable<K, V> {
+
+    /**
+     * Chain node - key, hash and next are final, so a reader that reaches a
+     * node always sees a complete chain behind it. Removal rebuilds the
+     * nodes in front of the removed one instead of unlinking in place.
+     */
+    private static final class HashNode<K, V> implements Entry<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final HashNode<K, V> next;
+
+        HashNode(int hash, K key, V value, HashNode<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * One lock stripe: a chained table of its own
+     * Bucket heads are published through an AtomicReferenceArray
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        volatile AtomicReferenceArray<HashNode<K, V>> table;
+        volatile int count;
+
+        Segment(int capacity) {
+            table = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    private final Segment<K, V>[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final HashStrategy hashStrategy = HashStrategy.DEFAULT;
+
+    private static final int DEFAULT_CAPACITY = 128;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 2;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    /**
+     * Constructor with default capacity and 16 lock stripes
+     */
+    public ConcurrentHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructor with specified capacity
+     * @param capacity Initial total capacity (spread over the segments)
+     */
+    public ConcurrentHashTable(int capacity) {
+        this(capacity, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Constructor with specified capacity and number of lock stripes
+     * @param capacity Initial total capacity
+     * @param concurrencyLevel Expected number of concurrent writers (rounded up to a power of two)
+     */
+    @SuppressWarnings("unchecked") // generic array of segments
+    public ConcurrentHashTable(int capacity, int concurrencyLevel) {
+        if (capacity <= 0 || concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Capacity and concurrency level must be positive");
+        }
+        int segmentCount = powerOfTwoAtLeast(concurrencyLevel);
+        int shift = 0;
+        while ((1 << shift) < segmentCount) {
+            shift++;
+        }
+        // segment is picked by the high bits, bucket by the low bits
+        this.segmentShift = 32 - shift;
+        this.segmentMask = segmentCount - 1;
+
+        int perSegment = powerOfTwoAtLeast(Math.max(MIN_SEGMENT_CAPACITY, (capacity + segmentCount - 1) / segmentCount));
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+    }
+
+    private static int powerOfTwoAtLeast(int n) {
+        int p = 1;
+        while (p < n) {
+            p <<= 1;
+        }
+        return p;
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return segments[segmentShift == 32 ? 0 : (hash >>> segmentShift) & segmentMask];
+    }
+
+    /**
+     * Inserts or updates a key-value pair
+     * Only the key's segment is locked
+     */
+    @Override
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int hash = hashStrategy.hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            AtomicReferenceArray<HashNode<K, V>> tab = segment.table;
+            int index = hash & (tab.length() - 1);
+            HashNode<K, V> first = tab.get(index);
+
+            HashNode<K, V> existing = findInChain(first, hash, key);
+            if (existing != null) {
+                existing.value = value; // volatile write, visible to readers at once
+                return;
+            }
+
+            insertHead(segment, tab, index, first, hash, key, value);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    // adds a node in front of the bucket's chain (caller holds the segment lock)
+    private void insertHead(Segment<K, V> segment, AtomicReferenceArray<HashNode<K, V>> tab, int index,
+                            HashNode<K, V> first, int hash, K key, V value) {
+        tab.set(index, new HashNode<>(hash, key, value, first)); // publish new head
+        segment.count = segment.count + 1;
+        if (segment.count > tab.length() * MAX_LOAD_FACTOR) {
+            resize(segment);
+        }
+    }
+
+    // finds the key in a bucket's chain (caller holds the segment lock or accepts a stale view)
+    private HashNode<K, V> findInChain(HashNode<K, V> first, int hash, K key) {
+        for (HashNode<K, V> node = first; node != null; node = node.next) {
+            if (node.hash == hash && node.key.equals(key)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Inserts the pair only if the key is not present yet
+     * The check and the insert happen under the segment lock, so two threads
+     * can never both insert the same key
+     *
+     * @return The existing value, or null if the pair was inserted
+     */
+    @Override
+    public V putIfAbsent(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int hash = hashStrategy.hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            AtomicReferenceArray<HashNode<K, V>> tab = segment.table;
+            int index = hash & (tab.length() - 1);
+            HashNode<K, V> first = tab.get(index);
+            HashNode<K, V> existing = findInChain(first, hash, key);
+            if (existing != null) {
+                return existing.value;
+            }
+            insertHead(segment, tab, index, first, hash, key, value);
+            return null;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Returns the key's value, computing and inserting it first if missing
+     * A present key is found without locking; otherwise the function runs
+     * under the segment lock, at most once per key
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        HashNode<K, V> found = findNode(key);
+        if (found != null) {
+            return found.value;
+        }
+        int hash = hashStrategy.hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            AtomicReferenceArray<HashNode<K, V>> tab = segment.table;
+            int index = hash & (tab.length() - 1);
+            HashNode<K, V> first = tab.get(index);
+            HashNode<K, V> existing = findInChain(first, hash, key); // re-check under the lock
+            if (existing != null) {
+                return existing.value;
+            }
+            V value = mappingFunction.apply(key);
+            if (value != null) {
+                insertHead(segment, tab, index, first, hash, key, value);
+            }
+            return value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Replaces the key's value with remappingFunction(key, current value)
+     * atomically (the function runs under the segment lock)
+     * A null result removes the key
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int hash = hashStrategy.hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            AtomicReferenceArray<HashNode<K, V>> tab = segment.table;
+            int index = hash & (tab.length() - 1);
+            HashNode<K, V> first = tab.get(index);
+            HashNode<K, V> existing = findInChain(first, hash, key);
+            V value = remappingFunction.apply(key, existing == null ? null : existing.value);
+            if (existing == null) {
+                if (value != null) {
+                    insertHead(segment, tab, index, first, hash, key, value);
+                }
+            } else if (value == null) {
+                unlink(segment, tab, index, first, existing);
+            } else {
+                existing.value = value;
+            }
+            return value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /**
+     * Retrieves value for given key without locking
+     *
+     * @return Value associated with key, or null if not found
+     */
+    @Override
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        HashNode<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return key != null && findNode(key) != null;
+    }
+
+    private HashNode<K, V> findNode(K key) {
+        int hash = hashStrategy.hash(key);
+        AtomicReferenceArray<HashNode<K, V>> tab = segmentFor(hash).table;
+        return findInChain(tab.get(hash & (tab.length() - 1)), hash, key);
+    }
+
+    /**
+     * Removes entry with given key
+     * Nodes in front of the removed one are copied so that readers walking
+     * the old chain are never cut off
+     *
+     * @return Value that was removed, or null if key not found
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        int hash = hashStrategy.hash(key);
+        Segment<K, V> segment = segmentFor(hash);
+        segment.lock();
+        try {
+            AtomicReferenceArray<HashNode<K, V>> tab = segment.table;
+            int index = hash & (tab.length() - 1);
+            HashNode<K, V> first = tab.get(index);
+
+            HashNode<K, V> target = findInChain(first, hash, key);
+            if (target == null) {
+                return null; // Key not found
+            }
+            unlink(segment, tab, index, first, target);
+            return target.value;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    // takes target out of its chain by copying the nodes in front of it (caller holds the lock)
+    private void unlink(Segment<K, V> segment, AtomicReferenceArray<HashNode<K, V>> tab, int index,
+                        HashNode<K, V> first, HashNode<K, V> target) {
+        HashNode<K, V> newFirst = target.next;
+        for (HashNode<K, V> node = first; node != target; node = node.next) {
+            newFirst = new HashNode<>(node.hash, node.key, node.value, newFirst);
+        }
+        tab.set(index, newFirst);
+        segment.count = segment.count - 1;
+    }
+
+    /**
+     * Doubles one segment's bucket array (caller holds the segment lock)
+     * The new array is filled completely before it is published, so
+     * readers see either the old or the new array, never a half-built one
+     */
+    private void resize(Segment<K, V> segment) {
+        AtomicReferenceArray<HashNode<K, V>> oldTab = segment.table;
+        int newCapacity = oldTab.length() * 2;
+        AtomicReferenceArray<HashNode<K, V>> newTab = new AtomicReferenceArray<>(newCapacity);
+
+        for (int i = 0; i < oldTab.length(); i++) {
+            for (HashNode<K, V> node = oldTab.get(i); node != null; node = node.next) {
+                int index = node.hash & (newCapacity - 1);
+                newTab.set(index, new HashNode<>(node.hash, node.key, node.value, newTab.get(index)));
+            }
+        }
+        segment.table = newTab; // volatile publish
+    }
+
+    @Override
+    public int size() {
+        long total = 0;
+        for (Segment<K, V> segment : segments) {
+            total += segment.count;
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all entries, one segment at a time
+     */
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                segment.table = new AtomicReferenceArray<>(segment.table.length());
+                segment.count = 0;
+            } finally {
+                segment.unlock();
+            }
+        }
+    }
+
+    @Override
+    public double getLoadFactor() {
+        long capacity = 0;
+        for (Segment<K, V> segment : segments) {
+            capacity += segment.table.length();
+        }
+        return (double) size() / capacity;
+    }
+
+    /**
+     * @return Number of lock stripes
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Calls action for every key-value pair without locking
+     * Weakly consistent: reflects the buckets as they were published when
+     * each segment was visited
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        visit((key, value) -> {
+            action.accept(key, value);
+            return true;
+        });
+    }
+
+    /**
+     * Walks the entries until the visitor returns false (weakly consistent)
+     *
+     * @return true if every entry was visited, false if the visitor stopped early
+     */
+    @Override
+    public boolean visit(Visitor<? super K, ? super V> visitor) {
+        for (Segment<K, V> segment : segments) {
+            AtomicReferenceArray<HashNode<K, V>> tab = segment.table;
+            for (int i = 0; i < tab.length(); i++) {
+                for (HashNode<K, V> node = tab.get(i); node != null; node = node.next) {
+                    if (!visitor.visit(node.key, node.value)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Iterator over the entries (weakly consistent, never throws
+     * ConcurrentModificationException)
+     */
+    @Override
+    public Iterator<Entry<K, V>> entryIterator() {
+        return new NodeIterator();
+    }
+
+    private class NodeIterator implements Iterator<Entry<K, V>> {
+        private int segmentIndex = 0;
+        private AtomicReferenceArray<HashNode<K, V>> tab = segments[0].table;
+        private int bucket = 0;
+        private HashNode<K, V> next;
+
+        NodeIterator() {
+            advance(null);
+        }
+
+        private void advance(HashNode<K, V> current) {
+            next = current == null ? null : current.next;
+            while (next == null) {
+                if (bucket == tab.length()) {
+                    if (++segmentIndex == segments.length) {
+                        return;
+                    }
+                    tab = segments[segmentIndex].table;
+                    bucket = 0;
+                    continue;
+                }
+                next = tab.get(bucket++);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            HashNode<K, V> current = next;
+            advance(current);
+            return current;
+        }
+    }
+
+    /**
+     * Returns all keys (weakly consistent)
+     */
+    @Override
+    public DynamicArray<K> keys() {
+        DynamicArray<K> keyList = new DynamicArray<>();
+        forEach((key, value) -> keyList.add(key));
+        return keyList;
+    }
+
+    /**
+     * Returns all values (weakly consistent)
+     */
+    @Override
+    public DynamicArray<V> values() {
+        DynamicArray<V> valueList = new DynamicArray<>();
+        forEach((key, value) -> valueList.add(value));
+        return valueList;
+    }
+
+    /**
+     * Returns all values whose keys partially match the given substring.
+     * Case-insensitive, weakly consistent.
+     */
+    @Override
+    public DynamicArray<V> searchByPartialKey(String substring) {
+        if (substring == null || substring.trim().isEmpty()) {
+            return values(); // return all
+        }
+
+        DynamicArray<V> results = new DynamicArray<>();
+        String lower = substring.toLowerCase();
+        forEach((key, value) -> {
+            if (key.toString().toLowerCase().contains(lower)) {
+                results.add(value);
+            }
+        });
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) return "{}";
+
+        StringBuilder sb = new StringBuilder("{\n");
+        forEach((key, value) -> sb.append("  ").append(key).append("=").append(value).append("\n"));
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -3,14 +3,19 @@ package datastructures;
 /**
  * Implementation of linked list
  * Updated with methods needed for HashTable integration
+ * Keeps a tail pointer, so add/getLast are O(1) (see DoublyLinkedList
+ * for O(1) unlinking of a node and removeLast)
  */
 public class CustomLinkedList<T> {
 
     private Node<T> head;
+    // not saved - data files only hold head and size, rebuilt in readResolve
+    private transient Node<T> tail;
     private int size;
 
     public CustomLinkedList() {
         head = null;
+        tail = null;
         size = 0;
     }
 
@@ -22,29 +27,72 @@ public class CustomLinkedList<T> {
         return head;
     }
 
-    public void addFirst(T data) {
-        Node<T> newNode = new Node<>(data);
-        newNode.setNext(head);
-        head = newNode;
-        size++;
+    public Node<T> getTail() {
+        return tail;
     }
 
-    // adds an element to the end of the list
-    public void add(T data) {
-        Node<T> newNode = new Node<>(data);
-        if (head == null) {
-            head = newNode;
+    // true if nodes also keep their prev pointer (DoublyLinkedList)
+    boolean isDoublyLinked() {
+        return false;
+    }
+
+    // links node after previous (previous == null: at the front), O(1)
+    void linkAfter(Node<T> previous, Node<T> node) {
+        Node<T> next = previous == null ? head : previous.getNext();
+        node.setNext(next);
+        if (previous == null) {
+            head = node;
+        } else {
+            previous.setNext(node);
         }
-        else {
-            //traverse to the last node
-            Node<T> current = head;
-            while (current.getNext() != null) {
-                current = current.getNext();
+        if (next == null) {
+            tail = node;
+        }
+        if (isDoublyLinked()) {
+            node.setPrev(previous);
+            if (next != null) {
+                next.setPrev(node);
             }
-            //link the last node to the new one
-            current.setNext(newNode);
         }
-        size++; // increment size
+        size++;
+    }
+
+    // unlinks node given its predecessor (null if node is the head), O(1)
+    T unlinkAfter(Node<T> previous, Node<T> node) {
+        Node<T> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else if (isDoublyLinked()) {
+            next.setPrev(previous);
+        }
+        node.setNext(null);
+        node.setPrev(null);
+        size--;
+        return node.getData();
+    }
+
+    public void addFirst(T data) {
+        linkAfter(null, new Node<>(data));
+    }
+
+    // links an existing node at the front of the list (used by HashTable to move
+    // nodes between tables while rehashing without allocating new ones)
+    void addFirstNode(Node<T> node) {
+        linkAfter(null, node);
+    }
+
+    // adds an element to the end of the list (O(1) through the tail)
+    public void add(T data) {
+        linkAfter(tail, new Node<>(data));
+    }
+
+    public void addLast(T data) {
+        add(data);
     }
 
     //add an element at a specific index in the list
@@ -54,26 +102,30 @@ public class CustomLinkedList<T> {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
 
-        Node<T> newNode = new Node<>(data);
-
-        // Insert at beginning
+        // Insert at the beginning or the end without walking
         if (index == 0) {
-            newNode.setNext(head);  // New node points to old head
-            head = newNode;          // New node becomes head
+            linkAfter(null, new Node<>(data));
         }
-        //Insert in middle or end
+        else if (index == size) {
+            linkAfter(tail, new Node<>(data));
+        }
+        //Insert in middle
         else {
             // Traverse to the node BEFORE the insertion point
-            Node<T> current = head;
-            for (int i = 0; i < index - 1; i++) {
-                current = current.getNext();
-            }
-            // Insert new node between current and current.next
-            newNode.setNext(current.getNext());
-            current.setNext(newNode);
+            linkAfter(nodeAt(index - 1), new Node<>(data));
         }
+    }
 
-        size++;
+    // node at a valid index (walks from the head)
+    Node<T> nodeAt(int index) {
+        if (index == size - 1) {
+            return tail;
+        }
+        Node<T> current = head;
+        for (int i = 0; i < index; i++) {
+            current = current.getNext();
+        }
+        return current;
     }
 
     // get an element at a specific index
@@ -81,58 +133,41 @@ public class CustomLinkedList<T> {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
-
-        Node<T> current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.getNext();
-        }
-        return current.getData();
+        return nodeAt(index).getData();
     }
 
     public T remove(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
-        T removedData;
         if (index == 0) {
-            removedData = head.getData();
-            head = head.getNext(); //second node becomes new head
+            return unlinkAfter(null, head); //second node becomes new head
         }
-        else {
-            Node<T> current = head;
-            for (int i = 0; i < index - 1; i++) {
-                current = current.getNext();
-            }
-            //save the data to return
-            removedData = current.getNext().getData();
-            // skip over the node to remove
-            current.setNext(current.getNext().getNext());
+        Node<T> previous = nodeAt(index - 1);
+        // skip over the node to remove
+        return unlinkAfter(previous, previous.getNext());
+    }
 
+    //removes and returns the first element (O(1))
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new IllegalStateException("List is empty");
         }
-        size--;
-        return removedData;
+        return unlinkAfter(null, head);
     }
 
     //removes the first occurrence of the specific elements
     //return true if element was found and removed, false otherwise
     public boolean remove(T data) {
-
-        if (head == null) {
-            return false;
-        }
-        if (head.getData().equals(data)) {
-            head = head.getNext();
-            size--;
-            return true;
-        }
+        Node<T> previous = null;
         Node<T> current = head;
-        while (current.getNext() != null) {
-            if (current.getNext().getData().equals(data)) {
+        while (current != null) {
+            if (current.getData().equals(data)) {
                 //found it and skip over it
-                current.setNext(current.getNext().getNext());
-                size--;
+                unlinkAfter(previous, current);
                 return true;
             }
+            previous = current;
             current = current.getNext();
         }
         return false;
@@ -163,6 +198,7 @@ public class CustomLinkedList<T> {
     //removes all elements from the list
     public void clear() {
         head = null;
+        tail = null;
         size = 0;
     }
 
@@ -194,16 +230,28 @@ public class CustomLinkedList<T> {
         return head.getData();
     }
 
-    //returns last element
+    //returns last element (O(1) through the tail)
     public T getLast() {
         if (isEmpty()) {
             throw new IllegalStateException("List is empty");
         }
-        Node<T> current = head;
-        while (current.getNext() != null) {
-            current = current.getNext();
+        return tail.getData();
+    }
+
+    /**
+     * Called by XStream after loading - the tail (and, for doubly linked
+     * lists, the prev pointers) are not saved, so one walk restores them
+     */
+    protected Object readResolve() {
+        Node<T> previous = null;
+        for (Node<T> current = head; current != null; current = current.getNext()) {
+            if (isDoublyLinked()) {
+                current.setPrev(previous);
+            }
+            previous = current;
         }
-        return current.getData();
+        tail = previous;
+        return this;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package datastructures;
+
+import java.util.function.Function;
+
+/**
+ * Distinct values with an occurrence count per value (a multiset)
+ * Backed by an ObjectIntHashTable, so add/remove are single probes and the
+ * set can be kept up to date as records change, instead of being rebuilt
+ * with a contains() loop (O(n²)) every time it is needed.
+ * A value disappears once its count drops to 0. Null values are ignored.
+ *
+ * @param <T> Value type (must have meaningful hashCode and equals)
+ */
+public class DistinctValues<T> {
+
+    private final ObjectIntHashTable<T> counts;
+
+    public DistinctValues() {
+        counts = new ObjectIntHashTable<>();
+    }
+
+    public DistinctValues(int expectedDistinct) {
+        counts = new ObjectIntHashTable<>(Math.max(1, expectedDistinct));
+    }
+
+    /**
+     * Collects the distinct values of one field in a single pass
+     *
+     * @param items     Records to scan
+     * @param extractor Field to collect (e.g. Politician::getPoliticalParty)
+     */
+    public static <E, T> DistinctValues<T> of(DynamicArray<E> items, Function<? super E, ? extends T> extractor) {
+        DistinctValues<T> values = new DistinctValues<>();
+        for (int i = 0; i < items.size(); i++) {
+            values.add(extractor.apply(items.get(i)));
+        }
+        return values;
+    }
+
+    /**
+     * Counts one more occurrence of value
+     */
+    public void add(T value) {
+        if (value != null) {
+            counts.increment(value);
+        }
+    }
+
+    /**
+     * Counts one less occurrence of value (no-op if it is not present)
+     */
+    public void remove(T value) {
+        if (value == null || !counts.containsKey(value)) {
+            return;
+        }
+        if (counts.addTo(value, -1) <= 0) {
+            counts.remove(value);
+        }
+    }
+
+    /**
+     * One occurrence changed from oldValue to newValue
+     */
+    public void replace(T oldValue, T newValue) {
+        if (oldValue == null ? newValue == null : oldValue.equals(newValue)) {
+            return;
+        }
+        remove(oldValue);
+        add(newValue);
+    }
+
+    public int count(T value) {
+        return counts.getOrDefault(value, 0);
+    }
+
+    public boolean contains(T value) {
+        return counts.containsKey(value);
+    }
+
+    /**
+     * @return Number of distinct values
+     */
+    public int size() {
+        return counts.size();
+    }
+
+    public boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    /**
+     * @return The distinct values (unordered, a new array each call)
+     */
+    public DynamicArray<T> values() {
+        return counts.keys();
+    }
+
+    @Override
+    public String toString() {
+        return counts.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package datastructures;
+
+/**
+ * Doubly linked mode of CustomLinkedList
+ * Every node also points back to its predecessor, so a node handle can be
+ * unlinked in O(1), removeLast is O(1) and index lookups walk from the
+ * nearer end. Costs one extra reference per node.
+ */
+public class DoublyLinkedList<T> extends CustomLinkedList<T> {
+
+    @Override
+    boolean isDoublyLinked() {
+        return true;
+    }
+
+    /**
+     * Removes a node of this list given its handle (e.g. from getHead/getTail
+     * or a node kept in an index), O(1)
+     *
+     * @return The removed element
+     */
+    public T unlink(Node<T> node) {
+        if (node == null) {
+            throw new IllegalArgumentException("Node cannot be null");
+        }
+        return unlinkAfter(node.getPrev(), node);
+    }
+
+    //removes and returns the last element (O(1))
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new IllegalStateException("List is empty");
+        }
+        return unlink(getTail());
+    }
+
+    // walks from whichever end is closer
+    @Override
+    Node<T> nodeAt(int index) {
+        if (index < size() / 2) {
+            return super.nodeAt(index);
+        }
+        Node<T> current = getTail();
+        for (int i = size() - 1; i > index; i--) {
+            current = current.getPrev();
+        }
+        return current;
+    }
+}
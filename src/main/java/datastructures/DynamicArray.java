@@ -1,15 +1,34 @@
 package datastructures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Generic Dynamic Array Implementation
  * Automatically resizes when capacity is reached
  * Used for storing variable-size collections (candidates, search results, etc.)
+ * Iterable, and streamable (sequential or parallel) through a spliterator
+ * that splits the index range in halves
+ * copyOnWrite()/readOnlyCopy() hand out copies that share the backing array;
+ * whichever holder writes first detaches its own copy (see ensureWritable)
  * E -> type of elements stored in the array
  */
-public class DynamicArray<E> {
+public class DynamicArray<E> implements Iterable<E> {
     private E[] data;
     private int size;
     private static final int DEFAULT_CAPACITY = 10;
     private static final double GROWTH_FACTOR = 1.5;
+    // backing array may be shared with another DynamicArray - copy before writing
+    private transient boolean shared;
+    // writes throw UnsupportedOperationException
+    private transient boolean readOnly;
 
     public DynamicArray() {
         data = (E[]) new Object[DEFAULT_CAPACITY];
@@ -23,6 +42,7 @@ public class DynamicArray<E> {
         size = 0;
     }
     public void add(E element) {
+        ensureWritable();
         if (size == data.length){
             resize();
         }
@@ -32,15 +52,41 @@ public class DynamicArray<E> {
         if (index < 0 || index > size) {
             throw new IndexOutOfBoundsException("Index out of range");
         }
+        ensureWritable();
         if (size == data.length) {
             resize();
         }
-        for (int i = size; i > index; i--) {
-            data[i] = data[i - 1];
-        }
+        System.arraycopy(data, index, data, index + 1, size - index);
         data[index] = element;
         size++;
     }
+
+    /**
+     * Appends every element of other (one block copy)
+     */
+    public void addAll(DynamicArray<? extends E> other) {
+        ensureWritable();
+        int count = other.size;
+        ensureCapacity(size + count);
+        System.arraycopy(other.data, 0, data, size, count);
+        size += count;
+    }
+
+    /**
+     * Inserts every element of other at index, shifting the tail once
+     */
+    public void insertAll(int index, DynamicArray<? extends E> other) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        ensureWritable();
+        int count = other.size;
+        Object[] source = other == this ? toArray() : other.data;
+        ensureCapacity(size + count);
+        System.arraycopy(data, index, data, index + count, size - index);
+        System.arraycopy(source, 0, data, index, count);
+        size += count;
+    }
     public E get(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index out of range");
@@ -51,6 +97,7 @@ public class DynamicArray<E> {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index out of range");
         }
+        ensureWritable();
         E old = data[index];
         data[index] = element;
         return old;
@@ -59,13 +106,66 @@ public class DynamicArray<E> {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index out of range");
         }
+        ensureWritable();
         E result = data[index];
-        for (int i = index; i < size - 1; i++) {
-            data[i] = data[i + 1];
-        }
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
         data[--size] = null;
         return result;
     }
+
+    /**
+     * Removes the elements from fromIndex (inclusive) to toIndex (exclusive)
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        ensureWritable();
+        System.arraycopy(data, toIndex, data, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(data, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Removes every element matching the filter in one compacting pass
+     * A shared backing array is only copied once a match is found
+     *
+     * @return true if anything was removed
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Array is read-only");
+        }
+        int first = 0;
+        while (first < size && !filter.test(data[first])) {
+            first++;
+        }
+        if (first == size) {
+            return false; // nothing matched - nothing written, nothing copied
+        }
+        ensureWritable();
+        int kept = first;
+        for (int i = first + 1; i < size; i++) {
+            if (!filter.test(data[i])) {
+                data[kept++] = data[i];
+            }
+        }
+        Arrays.fill(data, kept, size, null);
+        size = kept;
+        return true;
+    }
+
+    /**
+     * Keeps only the elements that are also in other
+     * O(n·m): each element is looked up with a linear other.indexOf, so for
+     * big arrays use removeIf with a hash lookup instead
+     *
+     * @return true if anything was removed
+     */
+    public boolean retainAll(DynamicArray<? extends E> other) {
+        return removeIf(element -> other.indexOf(element) < 0);
+    }
     //first occurrence of the specific element
     public boolean remove(E element) {
         for (int i = 0; i < size; i++) {
@@ -89,7 +189,7 @@ public class DynamicArray<E> {
         return indexOf(element) >=0;
     }
 
-    public int indexOf(E element) {
+    public int indexOf(Object element) {
         for (int i = 0; i < size; i++) {
             if (data[i]==null ? element==null : data[i].equals(element)) {
                 return i;
@@ -99,6 +199,10 @@ public class DynamicArray<E> {
     }
 
     public void clear(){
+        if (readOnly) {
+            throw new UnsupportedOperationException("Array is read-only");
+        }
+        shared = false; // fresh array, nothing to copy
         data = (E[]) new Object[DEFAULT_CAPACITY];
         size = 0;
     }
@@ -108,28 +212,186 @@ public class DynamicArray<E> {
      * Creates new array with increased capacity and copies elements
      */
     public void resize(){
-        int newCapacity = (int) (data.length * GROWTH_FACTOR);
-        E[] newData = (E[]) new Object[newCapacity];
-        for (int i = 0; i < size; i++) {
-            newData[i] = data[i];
+        if (readOnly) {
+            throw new UnsupportedOperationException("Array is read-only");
         }
-        data = newData;
+        // +1 so that tiny arrays (capacity 1) still grow
+        int newCapacity = Math.max(data.length + 1, (int) (data.length * GROWTH_FACTOR));
+        data = Arrays.copyOf(data, newCapacity);
+        shared = false; // the copy is private
+    }
+
+    // grows once to hold at least minCapacity elements (bulk operations)
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            int grown = (int) Math.min(Integer.MAX_VALUE - 8, (long) (data.length * GROWTH_FACTOR));
+            data = Arrays.copyOf(data, Math.max(minCapacity, grown));
+            shared = false;
+        }
+    }
+
+    /**
+     * Called before every write: rejects writes to read-only copies and
+     * detaches a shared backing array (the first write pays one O(n) copy)
+     */
+    private void ensureWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Array is read-only");
+        }
+        if (shared) {
+            data = Arrays.copyOf(data, data.length);
+            shared = false;
+        }
+    }
+
+    /**
+     * O(1) copy that shares this array's backing storage
+     * Both arrays stay independent: the first one written to copies the
+     * storage before changing it, so neither sees the other's changes
+     */
+    public DynamicArray<E> copyOnWrite() {
+        DynamicArray<E> copy = new DynamicArray<>(1);
+        copy.data = data;
+        copy.size = size;
+        copy.shared = true;
+        shared = true;
+        return copy;
+    }
+
+    /**
+     * O(1) read-only snapshot of the current elements
+     * Writes to the snapshot throw UnsupportedOperationException; later
+     * writes to this array detach first, so the snapshot never changes
+     */
+    public DynamicArray<E> readOnlyCopy() {
+        DynamicArray<E> copy = copyOnWrite();
+        copy.readOnly = true;
+        return copy;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
     }
 
     public E[] toArray() {
-        E[] array = (E[]) new Object[size];
+        return Arrays.copyOf(data, size);
+    }
+
+    /**
+     * Iterator over the elements in index order
+     * The array must not be modified while iterating
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public E next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return data[next++];
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
         for (int i = 0; i < size; i++) {
-            array[i] = data[i];
+            action.accept(data[i]);
+        }
+    }
+
+    /**
+     * SIZED / SUBSIZED spliterator over the current elements
+     * trySplit hands off the first half of the remaining range, so parallel
+     * streams split into equal, exactly-sized pieces
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator<>(data, 0, size);
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Collector into a DynamicArray (keeps encounter order, also for
+     * parallel streams - partial arrays are joined with addAll)
+     */
+    public static <T> Collector<T, ?, DynamicArray<T>> collector() {
+        return Collector.of(DynamicArray::new, DynamicArray::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    private static final class ArraySpliterator<E> implements Spliterator<E> {
+        private final E[] array;
+        private int index; // next element
+        private final int fence; // one past the last element
+
+        ArraySpliterator(E[] array, int index, int fence) {
+            this.array = array;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<E> prefix = new ArraySpliterator<>(array, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(array[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            for (int i = index; i < fence; i++) {
+                action.accept(array[i]);
+            }
+            index = fence;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
         }
-        return array;
     }
 
     //crates array from sorted array
     public void fromArray(E[] sortedArray) {
+        ensureWritable();
         // Simply copy sorted elements back
-        for (int i = 0; i < sortedArray.length && i < size; i++) {
-            data[i] = sortedArray[i];
-        }
+        System.arraycopy(sortedArray, 0, data, 0, Math.min(sortedArray.length, size));
     }
 
 
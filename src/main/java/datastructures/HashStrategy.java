@@ -0,0 +1,83 @@
+package datastructures;
+
+/**
+ * Strategy that turns a key into a table slot
+ * Each hash table can be configured with its own strategy.
+ * A strategy decides three things:
+ * - the 32-bit hash of a key
+ * - how that hash is folded into a slot index
+ * - which table sizes it works best with (e.g. powers of two or odd sizes)
+ */
+public interface HashStrategy {
+
+    /**
+     * Default strategy: seeded, avalanche-quality mixing hash on power-of-two tables
+     */
+    HashStrategy DEFAULT = new MixingHashStrategy();
+
+    /**
+     * Legacy strategy: sum of character codes modulo table size (opt-in)
+     */
+    HashStrategy CHARACTER_SUM = new CharacterSumHashStrategy();
+
+    /**
+     * @param key Key to hash (never null)
+     * @return 32-bit hash value
+     */
+    int hash(Object key);
+
+    /**
+     * Folds a hash value into a slot index
+     *
+     * @param hash     Value returned by hash()
+     * @param capacity Table size (as returned by tableSizeFor/nextTableSize)
+     * @return Index in range 0..capacity-1
+     */
+    int indexFor(int hash, int capacity);
+
+    /**
+     * @return Table size to use for a requested initial capacity
+     */
+    int tableSizeFor(int requestedCapacity);
+
+    /**
+     * @return Table size to grow to when the current table is too full
+     */
+    int nextTableSize(int currentCapacity);
+
+    /**
+     * Slot index of a key in a table of the given size
+     */
+    default int indexOf(Object key, int capacity) {
+        return indexFor(hash(key), capacity);
+    }
+
+    /**
+     * Collision rate this strategy produces on a real key set
+     * Counts the keys that land in a slot already taken by an earlier key
+     *
+     * @param keys     Keys to place (null entries are ignored)
+     * @param capacity Requested table size (normalised with tableSizeFor)
+     * @return Fraction of keys that collided (0.0 to 1.0)
+     */
+    default double collisionRate(DynamicArray<?> keys, int capacity) {
+        int tableSize = tableSizeFor(capacity);
+        boolean[] used = new boolean[tableSize];
+        int placed = 0;
+        int collisions = 0;
+
+        for (int i = 0; i < keys.size(); i++) {
+            Object key = keys.get(i);
+            if (key == null) {
+                continue;
+            }
+            int index = indexOf(key, tableSize);
+            if (used[index]) {
+                collisions++;
+            }
+            used[index] = true;
+            placed++;
+        }
+        return placed == 0 ? 0.0 : (double) collisions / placed;
+    }
+}
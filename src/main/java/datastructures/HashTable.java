@@ -1,23 +1,37 @@
 package datastructures;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
 /**
  * Generic Hash Table Implementation using Separate Chaining
  * Uses CustomLinkedList for collision resolution
  * Key Features:
- * - Custom hash function for String keys
+ * - Pluggable hash function (HashStrategy, mixing hash by default)
  * - Separate chaining for collision resolution
  * - Load factor monitoring
+ * - Incremental rehashing (no O(n) pause when the table grows)
+ * - Optional n-gram index for substring search on keys
+ * - Presized construction and bulk loading (putAll)
+ * - Single-probe putIfAbsent / computeIfAbsent / compute / merge
+ * - Cheap always-on usage counters (getMetrics)
  * - Generic key-value storage
+ * See OpenAddressingHashTable for the array-based alternative
  *
  * @param <K> Key type (must have meaningful hashCode and equals)
  * @param <V> Value type
  */
-public class HashTable<K, V> {
+public class HashTable<K, V> implements KeyValueTable<K, V> {
 
     /**
      * Inner class to store key-value pairs
      */
-    private class Entry {
+    private class Entry implements KeyValueTable.Entry<K, V> {
         K key;
         V value;
 
@@ -26,54 +40,117 @@ public class HashTable<K, V> {
             this.value = value;
         }
 
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
         @Override
         public String toString() {
             return key + "=" + value;
         }
     }
 
-    private CustomLinkedList<Entry>[] table;
+    private CustomLinkedList<Entry>[] table; // slots are created lazily (null = empty)
     private int size; // Number of entries
     private int capacity; // Table size
-    private static final int DEFAULT_CAPACITY = 101; // Prime number
+    private HashStrategy hashStrategy;
+    private static final int DEFAULT_CAPACITY = 101; // Prime number (rounded up to 128 by the default strategy)
     private static final double MAX_LOAD_FACTOR = 0.7;
 
+    // Incremental rehashing: while oldTable != null entries live in both tables
+    // and every put/remove moves a few old buckets into the new table
+    private CustomLinkedList<Entry>[] oldTable;
+    private int oldCapacity;
+    private int migrateIndex; // next old bucket to move
+    private static final int BUCKETS_PER_STEP = 4;
+    private static final int MAX_EMPTY_VISITS = BUCKETS_PER_STEP * 10;
+
+    // Bulk loads at least this big fill bucket ranges in parallel
+    private static final int PARALLEL_BULK_THRESHOLD = 10_000;
+
+    // Optional trigram index behind searchByPartialKey (rebuilt after loading)
+    // Posts the entries themselves, so a match has its value without a lookup
+    private boolean substringIndexEnabled;
+    private transient NGramIndex<Entry> substringIndex;
+
+    // Usage counters for getMetrics() - plain increments, not saved
+    private transient long hitCount;
+    private transient long missCount;
+    private transient long lookupCount;
+    private transient long comparisonCount;
+    private transient long rehashCount;
+    private transient long rehashNanos;
+
     /**
      * Constructor with default capacity
      */
-    @SuppressWarnings("unchecked")
     public HashTable() {
-        this.capacity = DEFAULT_CAPACITY;
-        this.table = new CustomLinkedList[capacity];
-        this.size = 0;
-        initializeTable();
+        this(DEFAULT_CAPACITY);
     }
 
     /**
      * Constructor with specified capacity
-     * @param capacity Initial capacity (should be prime for better distribution)
+     * @param capacity Initial capacity (normalised by the hash strategy,
+     *                 e.g. rounded up to a power of two for the default one)
      */
-    @SuppressWarnings("unchecked")
     public HashTable(int capacity) {
-        this.capacity = capacity;
-        this.table = new CustomLinkedList[capacity];
+        this(capacity, HashStrategy.DEFAULT);
+    }
+
+    /**
+     * Constructor with specified capacity and hash strategy
+     * @param capacity Initial capacity
+     * @param hashStrategy Strategy used to place keys, e.g. HashStrategy.CHARACTER_SUM for the legacy layout
+     */
+    public HashTable(int capacity, HashStrategy hashStrategy) {
+        if (hashStrategy == null) {
+            throw new IllegalArgumentException("Hash strategy cannot be null");
+        }
+        this.hashStrategy = hashStrategy;
+        this.capacity = hashStrategy.tableSizeFor(capacity);
+        this.table = newTable(this.capacity);
         this.size = 0;
-        initializeTable();
     }
 
     /**
-     * Initialize all slots with empty linked lists
+     * Creates a table big enough to hold expectedEntries without any rehash
+     *
+     * @param expectedEntries Number of entries the table will hold
      */
-    private void initializeTable() {
-        for (int i = 0; i < capacity; i++) {
-            table[i] = new CustomLinkedList<>();
+    public static <K, V> HashTable<K, V> withExpectedSize(int expectedEntries) {
+        return withExpectedSize(expectedEntries, HashStrategy.DEFAULT);
+    }
+
+    public static <K, V> HashTable<K, V> withExpectedSize(int expectedEntries, HashStrategy hashStrategy) {
+        if (expectedEntries < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
         }
+        return new HashTable<>(capacityFor(expectedEntries), hashStrategy);
+    }
+
+    // smallest table size that keeps entries at or below the maximum load factor
+    private static int capacityFor(int entries) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, (long) Math.ceil(entries / MAX_LOAD_FACTOR) + 1);
+    }
+
+    /**
+     * Creates an empty slot array
+     * Chains are only allocated when the first entry lands in a slot,
+     * so growing the table costs one array allocation, not one list per slot
+     */
+    @SuppressWarnings("unchecked")
+    private CustomLinkedList<Entry>[] newTable(int tableCapacity) {
+        return new CustomLinkedList[tableCapacity];
     }
 
     /**
-     * Custom hash function for any object key
-     * For Strings: sums character codes
-     * For other objects: uses hashCode()
+     * Hash function for any object key, delegated to the configured strategy
      *
      * @param key Key to hash
      * @return Hash value (index in table)
@@ -82,23 +159,95 @@ public class HashTable<K, V> {
         if (key == null) {
             return 0;
         }
+        return hashStrategy.indexOf(key, capacity);
+    }
+
+    /**
+     * @return Strategy used to place keys in this table
+     */
+    public HashStrategy getHashStrategy() {
+        return hashStrategy;
+    }
+
+    /**
+     * Fraction of entries that share their slot with an earlier entry
+     * Measures how well the configured strategy spreads the current keys
+     *
+     * @return Collision rate (0.0 to 1.0)
+     */
+    public double getCollisionRate() {
+        if (size == 0) {
+            return 0.0;
+        }
+        int collisions = countCollisions(table);
+        if (oldTable != null) {
+            collisions += countCollisions(oldTable);
+        }
+        return (double) collisions / size;
+    }
+
+    private int countCollisions(CustomLinkedList<Entry>[] slots) {
+        int collisions = 0;
+        for (CustomLinkedList<Entry> chain : slots) {
+            if (chain != null && chain.size() > 1) {
+                collisions += chain.size() - 1;
+            }
+        }
+        return collisions;
+    }
+
+    /**
+     * Finds the node holding the key in either table
+     *
+     * @return Node of the entry, or null if key not found
+     */
+    private Node<Entry> findNode(K key) {
+        return findNode(key, hashStrategy.hash(key));
+    }
 
-        int hashValue;
+    /**
+     * Same as findNode(key) for a key whose hash is already known, so that
+     * a lookup followed by an insert hashes the key only once
+     */
+    private Node<Entry> findNode(K key, int keyHash) {
+        lookupCount++;
+        Node<Entry> node = findCounted(table[hashStrategy.indexFor(keyHash, capacity)], key);
+        if (node == null && oldTable != null) {
+            node = findCounted(oldTable[hashStrategy.indexFor(keyHash, oldCapacity)], key);
+        }
+        return node;
+    }
 
-        // Custom hash for String keys (as per course notes)
-        if (key instanceof String) {
-            String strKey = (String) key;
-            int total = 0;
-            for (int i = 0; i < strKey.length(); i++) {
-                total += strKey.charAt(i);
+    // findInChain that also adds its key comparisons to the metrics
+    private Node<Entry> findCounted(CustomLinkedList<Entry> chain, K key) {
+        if (chain == null) {
+            return null;
+        }
+        int comparisons = 0;
+        Node<Entry> current = chain.getHead();
+        while (current != null) {
+            comparisons++;
+            if (current.getData().key.equals(key)) {
+                break;
             }
-            hashValue = Math.abs(total % capacity);
-        } else {
-            // Use built-in hashCode for other types
-            hashValue = Math.abs(key.hashCode() % capacity);
+            current = current.getNext();
         }
+        comparisonCount += comparisons;
+        return current;
+    }
 
-        return hashValue;
+    private Node<Entry> findInChain(CustomLinkedList<Entry> chain, K key) {
+        if (chain == null) {
+            return null;
+        }
+        Node<Entry> current = chain.getHead();
+        while (current != null) {
+            if (current.getData().key.equals(key)) {
+                return current;
+            }
+            current = current.getNext();
+        }
+        return null;
     }
 
     /**
@@ -113,25 +262,34 @@ public class HashTable<K, V> {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
-
-        int index = hash(key);
-        CustomLinkedList<Entry> chain = table[index];
+        migrateStep();
 
         // Check if key already exists (update scenario)
-        Node<Entry> current = chain.getHead();
-        while (current != null) {
-            if (current.getData().key.equals(key)) {
-                // Update existing value
-                current.getData().value = value;
-                return;
-            }
-            current = current.getNext();
+        int keyHash = hashStrategy.hash(key);
+        Node<Entry> existing = findNode(key, keyHash);
+        if (existing != null) {
+            existing.getData().value = value;
+            return;
         }
 
-        // Key doesn't exist, insert new entry (head insertion for efficiency)
-        Entry newEntry = new Entry(key, value);
-        chain.addFirst(newEntry);
+        insertNew(key, keyHash, value);
+    }
+
+    /**
+     * Inserts a key known to be absent (head insertion for efficiency)
+     * New entries always go to the new table
+     */
+    private void insertNew(K key, int keyHash, V value) {
+        int index = hashStrategy.indexFor(keyHash, capacity);
+        if (table[index] == null) {
+            table[index] = new CustomLinkedList<>();
+        }
+        Entry entry = new Entry(key, value);
+        table[index].addFirst(entry);
         size++;
+        if (substringIndex != null) {
+            substringIndex.add(entry);
+        }
 
         // Check load factor
         if (getLoadFactor() > MAX_LOAD_FACTOR) {
@@ -139,6 +297,117 @@ public class HashTable<K, V> {
         }
     }
 
+    /**
+     * Inserts the pair only if the key is not present yet
+     * One hash and one probe (containsKey + put would walk the chain twice)
+     *
+     * @return The existing value, or null if the pair was inserted
+     */
+    public V putIfAbsent(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        migrateStep();
+        int keyHash = hashStrategy.hash(key);
+        Node<Entry> existing = findNode(key, keyHash);
+        if (existing != null) {
+            return existing.getData().value;
+        }
+        insertNew(key, keyHash, value);
+        return null;
+    }
+
+    /**
+     * Returns the key's value, computing and inserting it first if the key
+     * is not present (nothing is inserted if the function returns null)
+     *
+     * @return Existing or newly computed value
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        migrateStep();
+        int keyHash = hashStrategy.hash(key);
+        Node<Entry> existing = findNode(key, keyHash);
+        if (existing != null) {
+            return existing.getData().value;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            insertNew(key, keyHash, value);
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the key's value with remappingFunction(key, current value),
+     * where the current value is null for a missing key
+     * A null result removes the key
+     *
+     * @return New value, or null if the key was removed / not inserted
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        migrateStep();
+        int keyHash = hashStrategy.hash(key);
+
+        // same walk as findNode, but keeps the chain and predecessor so a
+        // null result unlinks in place instead of searching again
+        lookupCount++;
+        CustomLinkedList<Entry> chain = null;
+        Node<Entry> previous = null;
+        Node<Entry> existing = null;
+        for (int pass = 0; pass < 2 && existing == null; pass++) {
+            CustomLinkedList<Entry>[] slots = pass == 0 ? table : oldTable;
+            if (slots == null) {
+                break;
+            }
+            chain = slots[hashStrategy.indexFor(keyHash, pass == 0 ? capacity : oldCapacity)];
+            previous = null;
+            for (Node<Entry> node = chain == null ? null : chain.getHead(); node != null; node = node.getNext()) {
+                comparisonCount++;
+                if (node.getData().key.equals(key)) {
+                    existing = node;
+                    break;
+                }
+                previous = node;
+            }
+        }
+
+        V value = remappingFunction.apply(key, existing == null ? null : existing.getData().value);
+        if (existing == null) {
+            if (value != null) {
+                insertNew(key, keyHash, value);
+            }
+        } else if (value == null) {
+            chain.unlinkAfter(previous, existing);
+            size--;
+            if (substringIndex != null) {
+                substringIndex.remove(existing.getData());
+            }
+        } else {
+            existing.getData().value = value;
+        }
+        return value;
+    }
+
+    /**
+     * Inserts value for a missing key, otherwise replaces the current value
+     * with remappingFunction(current value, value)
+     * A null result removes the key
+     *
+     * @return New value, or null if the key was removed
+     */
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        return compute(key, (k, current) -> current == null ? value : remappingFunction.apply(current, value));
+    }
+
     /**
      * Retrieves value for given key
      *
@@ -149,20 +418,13 @@ public class HashTable<K, V> {
         if (key == null) {
             return null;
         }
-
-        int index = hash(key);
-        CustomLinkedList<Entry> chain = table[index];
-
-        // Search through chain
-        Node<Entry> current = chain.getHead();
-        while (current != null) {
-            if (current.getData().key.equals(key)) {
-                return current.getData().value;
-            }
-            current = current.getNext();
+        Node<Entry> node = findNode(key);
+        if (node == null) {
+            missCount++;
+            return null;
         }
-
-        return null; // Key not found
+        hitCount++;
+        return node.getData().value;
     }
 
     /**
@@ -172,7 +434,7 @@ public class HashTable<K, V> {
      * @return true if key exists
      */
     public boolean containsKey(K key) {
-        return get(key) != null;
+        return key != null && findNode(key) != null; // a key mapped to null is still present
     }
 
     /**
@@ -185,26 +447,42 @@ public class HashTable<K, V> {
         if (key == null) {
             return null;
         }
+        migrateStep();
 
-        int index = hash(key);
-        CustomLinkedList<Entry> chain = table[index];
+        Entry removed = removeFromChain(table[hash(key)], key);
+        if (removed == null && oldTable != null) {
+            removed = removeFromChain(oldTable[hashStrategy.indexOf(key, oldCapacity)], key);
+        }
+        if (removed == null) {
+            return null; // key not found
+        }
+        if (substringIndex != null) {
+            substringIndex.remove(removed);
+        }
+        return removed.value;
+    }
 
-        // Search and remove from chain
+    // unlinks the key's entry from the chain, returns it (null if not found)
+    private Entry removeFromChain(CustomLinkedList<Entry> chain, K key) {
+        if (chain == null) {
+            return null;
+        }
+
+        // Search and remove from chain - unlinked through the predecessor
+        // found on the way, so the chain is walked only once
+        Node<Entry> previous = null;
         Node<Entry> current = chain.getHead();
-        int position = 0;
 
         while (current != null) {
             if (current.getData().key.equals(key)) {
-                V removedValue = current.getData().value;
-                chain.remove(position);
+                chain.unlinkAfter(previous, current);
                 size--;
-                return removedValue;
+                return current.getData();
             }
+            previous = current;
             current = current.getNext();
-            position++;
         }
-
-        return null; // Key not found
+        return null;
     }
 
     /**
@@ -239,33 +517,393 @@ public class HashTable<K, V> {
      * Removes all entries from table
      */
     public void clear() {
-        initializeTable();
+        table = newTable(capacity);
+        oldTable = null;
         size = 0;
+        if (substringIndex != null) {
+            substringIndex.clear();
+        }
     }
 
     /**
-     * Rehashes table when load factor exceeds threshold
-     * Creates new larger table and rehashes all entries
+     * Turns on the trigram index used by searchByPartialKey
+     * Substring queries of 3+ characters then only check the keys sharing
+     * the query's rarest trigram instead of scanning every key.
+     * The index is kept up to date by put/remove and costs extra memory
+     * (see getSubstringIndex().estimateMemoryBytes()).
+     */
+    public void enableSubstringIndex() {
+        substringIndexEnabled = true;
+        substringIndex = newSubstringIndex();
+        addChainsToIndex(table);
+        if (oldTable != null) {
+            addChainsToIndex(oldTable);
+        }
+    }
+
+    private NGramIndex<Entry> newSubstringIndex() {
+        return new NGramIndex<>(NGramIndex.DEFAULT_N, entry -> entry.key.toString());
+    }
+
+    private void addChainsToIndex(CustomLinkedList<Entry>[] slots) {
+        for (CustomLinkedList<Entry> chain : slots) {
+            if (chain != null) {
+                for (Node<Entry> node = chain.getHead(); node != null; node = node.getNext()) {
+                    substringIndex.add(node.getData());
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns the substring index off and frees it
+     */
+    public void disableSubstringIndex() {
+        substringIndexEnabled = false;
+        substringIndex = null;
+    }
+
+    public boolean isSubstringIndexEnabled() {
+        return substringIndexEnabled;
+    }
+
+    /**
+     * @return The substring index (for memory accounting), or null if disabled
+     */
+    public NGramIndex<? extends KeyValueTable.Entry<K, V>> getSubstringIndex() {
+        return substringIndex;
+    }
+
+    /**
+     * @return true while entries are still being moved to a larger table
+     */
+    public boolean isRehashing() {
+        return oldTable != null;
+    }
+
+    /**
+     * Starts growing the table when load factor exceeds threshold
+     * The current table is kept as oldTable and its buckets are moved
+     * a few at a time by later operations (see migrateStep)
+     * Chains just get longer once the table is at the strategy's size cap
      */
-    @SuppressWarnings("unchecked")
     private void rehash() {
-        int newCapacity = capacity * 2 + 1; // Keep odd for better distribution
-        CustomLinkedList<Entry>[] oldTable = table;
+        int newCapacity = hashStrategy.nextTableSize(capacity);
+        if (newCapacity <= capacity) {
+            return;
+        }
+        if (oldTable != null) {
+            // previous resize still running (only after heavy removals) - finish it first
+            finishMigration();
+        }
+        rehashCount++;
+        oldTable = table;
+        oldCapacity = capacity;
+        migrateIndex = 0;
 
-        // Create new larger table
-        table = new CustomLinkedList[newCapacity];
         capacity = newCapacity;
-        size = 0;
-        initializeTable();
+        table = newTable(capacity);
+    }
+
+    /**
+     * Grows the table once so that expectedSize entries fit under the load factor
+     * Any running incremental rehash is completed first, so afterwards all
+     * entries live in table
+     */
+    private void presize(int expectedSize) {
+        int needed = hashStrategy.tableSizeFor(capacityFor(expectedSize));
+        if (needed <= capacity) {
+            finishMigration();
+            return;
+        }
+        long start = System.nanoTime();
+        rehashCount++;
+        CustomLinkedList<Entry>[] current = table;
+        CustomLinkedList<Entry>[] previous = oldTable;
+
+        capacity = needed;
+        table = newTable(capacity);
+        oldTable = null;
+        for (CustomLinkedList<Entry> chain : current) {
+            if (chain != null) {
+                moveChain(chain);
+            }
+        }
+        if (previous != null) {
+            for (CustomLinkedList<Entry> chain : previous) {
+                if (chain != null) {
+                    moveChain(chain);
+                }
+            }
+        }
+        rehashNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Moves up to BUCKETS_PER_STEP non-empty old buckets into the new table
+     * Nodes are relinked, not copied, so no chain objects are allocated
+     * except for new slots that receive their first entry
+     */
+    private void migrateStep() {
+        if (oldTable == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        int moved = 0;
+        int emptyVisits = 0;
+        while (migrateIndex < oldCapacity && moved < BUCKETS_PER_STEP && emptyVisits < MAX_EMPTY_VISITS) {
+            CustomLinkedList<Entry> chain = oldTable[migrateIndex];
+            if (chain == null || chain.isEmpty()) {
+                emptyVisits++;
+            } else {
+                moveChain(chain);
+                moved++;
+            }
+            oldTable[migrateIndex] = null;
+            migrateIndex++;
+        }
+        if (migrateIndex >= oldCapacity) {
+            oldTable = null;
+        }
+        rehashNanos += System.nanoTime() - start;
+    }
+
+    private void finishMigration() {
+        while (oldTable != null) {
+            migrateStep();
+        }
+    }
+
+    private void moveChain(CustomLinkedList<Entry> chain) {
+        Node<Entry> current = chain.getHead();
+        while (current != null) {
+            Node<Entry> next = current.getNext();
+            int index = hash(current.getData().key);
+            if (table[index] == null) {
+                table[index] = new CustomLinkedList<>();
+            }
+            table[index].addFirstNode(current);
+            current = next;
+        }
+        chain.clear();
+    }
+
+    /**
+     * Inserts or updates every entry of another table
+     * The table is sized once for the combined size, then filled without
+     * per-put load factor checks (see putAll(DynamicArray, Function))
+     */
+    public void putAll(KeyValueTable<? extends K, ? extends V> other) {
+        Object[] keys = new Object[other.size()];
+        Object[] values = new Object[other.size()];
+        int[] count = {0};
+        other.forEach((key, value) -> {
+            keys[count[0]] = key;
+            values[count[0]] = value;
+            count[0]++;
+        });
+        bulkInsert(keys, values, count[0]);
+    }
+
+    /**
+     * Bulk load: inserts every value under the key computed by keyExtractor
+     * Later values win when two of them have the same key (same as repeated put).
+     * - the table is sized once from the final entry count
+     * - buckets are filled directly, no load factor check per entry
+     * - large batches fill independent bucket ranges in parallel
+     *
+     * @param values Values to insert
+     * @param keyExtractor Computes the key of a value (e.g. Politician::getName)
+     */
+    public void putAll(DynamicArray<? extends V> values, Function<? super V, ? extends K> keyExtractor) {
+        int count = values.size();
+        Object[] keys = new Object[count];
+        Object[] vals = new Object[count];
+        for (int i = 0; i < count; i++) {
+            vals[i] = values.get(i);
+            keys[i] = keyExtractor.apply(values.get(i));
+        }
+        bulkInsert(keys, vals, count);
+    }
+
+    /**
+     * Inserts keys[i] -> values[i] for i in 0..count-1
+     * Slots are computed up front. For big batches the items are grouped by
+     * slot (stable counting sort) and each worker fills a disjoint range of
+     * buckets, so no locking is needed.
+     */
+    @SuppressWarnings("unchecked")
+    private void bulkInsert(Object[] keys, Object[] values, int count) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] == null) {
+                throw new IllegalArgumentException("Key cannot be null");
+            }
+        }
+        presize(size + count);
+
+        int[] slots = new int[count];
+        Object[] added = new Object[count]; // new entry of each item, null if it updated one
+        boolean parallel = count >= PARALLEL_BULK_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+
+        if (!parallel) {
+            for (int i = 0; i < count; i++) {
+                slots[i] = hash((K) keys[i]);
+            }
+            size += fillBuckets(keys, values, slots, null, 0, count, added);
+        } else {
+            IntStream.range(0, count).parallel().forEach(i -> slots[i] = hash((K) keys[i]));
+
+            // stable counting sort of item indices by slot
+            int[] start = new int[capacity + 1];
+            for (int i = 0; i < count; i++) {
+                start[slots[i] + 1]++;
+            }
+            for (int s = 0; s < capacity; s++) {
+                start[s + 1] += start[s];
+            }
+            int[] order = new int[count];
+            int[] next = start.clone();
+            for (int i = 0; i < count; i++) {
+                order[next[slots[i]]++] = i;
+            }
+
+            // one task per bucket range
+            int tasks = Math.min(capacity, ForkJoinPool.getCommonPoolParallelism() * 4);
+            size += IntStream.range(0, tasks).parallel().map(t -> {
+                int firstSlot = (int) ((long) capacity * t / tasks);
+                int endSlot = (int) ((long) capacity * (t + 1) / tasks);
+                return fillBuckets(keys, values, slots, order, start[firstSlot], start[endSlot], added);
+            }).sum();
+        }
+
+        if (substringIndex != null) {
+            for (int i = 0; i < count; i++) {
+                if (added[i] != null) {
+                    substringIndex.add((Entry) added[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the items at positions from..to-1 of order (or of the input
+     * when order is null) straight into their precomputed slots
+     *
+     * @return Number of new keys inserted
+     */
+    @SuppressWarnings("unchecked")
+    private int fillBuckets(Object[] keys, Object[] values, int[] slots, int[] order,
+                            int from, int to, Object[] added) {
+        int inserted = 0;
+        for (int p = from; p < to; p++) {
+            int item = order == null ? p : order[p];
+            K key = (K) keys[item];
+            int slot = slots[item];
+
+            Node<Entry> existing = findInChain(table[slot], key);
+            if (existing != null) {
+                existing.getData().value = (V) values[item];
+                continue;
+            }
+            if (table[slot] == null) {
+                table[slot] = new CustomLinkedList<>();
+            }
+            Entry entry = new Entry(key, (V) values[item]);
+            table[slot].addFirst(entry);
+            added[item] = entry;
+            inserted++;
+        }
+        return inserted;
+    }
+
+    /**
+     * Calls action for every key-value pair
+     * Walks the chains of both tables directly, nothing is copied
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        visit((key, value) -> {
+            action.accept(key, value);
+            return true;
+        });
+    }
 
-        // Rehash all entries
-        for (CustomLinkedList<Entry> chain : oldTable) {
+    /**
+     * Walks the entries until the visitor returns false
+     *
+     * @return true if every entry was visited, false if the visitor stopped early
+     */
+    public boolean visit(Visitor<? super K, ? super V> visitor) {
+        if (!visitChains(table, visitor)) {
+            return false;
+        }
+        return oldTable == null || visitChains(oldTable, visitor);
+    }
+
+    private boolean visitChains(CustomLinkedList<Entry>[] slots, Visitor<? super K, ? super V> visitor) {
+        for (CustomLinkedList<Entry> chain : slots) {
+            if (chain == null) {
+                continue;
+            }
             Node<Entry> current = chain.getHead();
             while (current != null) {
-                put(current.getData().key, current.getData().value);
+                Entry entry = current.getData();
+                if (!visitor.visit(entry.key, entry.value)) {
+                    return false;
+                }
                 current = current.getNext();
             }
         }
+        return true;
+    }
+
+    /**
+     * Iterator over the stored entries (no copies are made)
+     * The table must not be modified while iterating
+     */
+    public Iterator<KeyValueTable.Entry<K, V>> entryIterator() {
+        return new EntryIterator();
+    }
+
+    private class EntryIterator implements Iterator<KeyValueTable.Entry<K, V>> {
+        private CustomLinkedList<Entry>[] slots = table;
+        private int slot = 0;
+        private Node<Entry> next;
+
+        EntryIterator() {
+            advance(null);
+        }
+
+        // moves to the node after current, crossing into the next chain / old table when needed
+        private void advance(Node<Entry> current) {
+            next = current == null ? null : current.getNext();
+            while (next == null) {
+                if (slot == slots.length) {
+                    if (slots == oldTable || oldTable == null) {
+                        return;
+                    }
+                    slots = oldTable;
+                    slot = 0;
+                    continue;
+                }
+                CustomLinkedList<Entry> chain = slots[slot++];
+                next = chain == null ? null : chain.getHead();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public KeyValueTable.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Node<Entry> current = next;
+            advance(current);
+            return current.getData();
+        }
     }
 
     /**
@@ -275,14 +913,8 @@ public class HashTable<K, V> {
      * @return DynamicArray of all keys
      */
     public DynamicArray<K> keys() {
-        DynamicArray<K> keyList = new DynamicArray<>();
-        for (CustomLinkedList<Entry> chain : table) {
-            Node<Entry> current = chain.getHead();
-            while (current != null) {
-                keyList.add(current.getData().key);
-                current = current.getNext();
-            }
-        }
+        DynamicArray<K> keyList = new DynamicArray<>(Math.max(1, size));
+        forEach((key, value) -> keyList.add(key));
         return keyList;
     }
 
@@ -292,43 +924,65 @@ public class HashTable<K, V> {
      * @return DynamicArray of all values
      */
     public DynamicArray<V> values() {
-        DynamicArray<V> valueList = new DynamicArray<>();
-        for (CustomLinkedList<Entry> chain : table) {
-            Node<Entry> current = chain.getHead();
-            while (current != null) {
-                valueList.add(current.getData().value);
-                current = current.getNext();
+        DynamicArray<V> valueList = new DynamicArray<>(Math.max(1, size));
+        forEach((key, value) -> valueList.add(value));
+        return valueList;
+    }
+
+    /**
+     * Snapshot of the table's shape and usage counters
+     * The chain histogram walks every slot (O(capacity)); the counters are
+     * just read. While a rehash is running, slots of both tables are counted.
+     */
+    public HashTableMetrics getMetrics() {
+        int maxChain = Math.max(maxChainLength(table), oldTable == null ? 0 : maxChainLength(oldTable));
+        int[] histogram = new int[maxChain + 1];
+        addChainLengths(table, histogram);
+        if (oldTable != null) {
+            addChainLengths(oldTable, histogram);
+        }
+        return new HashTableMetrics(capacity, size, histogram, rehashCount, rehashNanos,
+                hitCount, missCount, lookupCount, comparisonCount);
+    }
+
+    /**
+     * Sets the hit/miss, lookup and rehash counters back to zero
+     */
+    public void resetMetrics() {
+        hitCount = 0;
+        missCount = 0;
+        lookupCount = 0;
+        comparisonCount = 0;
+        rehashCount = 0;
+        rehashNanos = 0;
+    }
+
+    private int maxChainLength(CustomLinkedList<Entry>[] slots) {
+        int max = 0;
+        for (CustomLinkedList<Entry> chain : slots) {
+            if (chain != null) {
+                max = Math.max(max, chain.size());
             }
         }
-        return valueList;
+        return max;
+    }
+
+    private void addChainLengths(CustomLinkedList<Entry>[] slots, int[] histogram) {
+        for (CustomLinkedList<Entry> chain : slots) {
+            histogram[chain == null ? 0 : chain.size()]++;
+        }
     }
 
     /**
      * Display hash table structure (for debugging)
-     * Shows which slots have entries and chain lengths
+     * Prints getMetrics() - use that directly to collect the numbers
      */
     public void displayStructure() {
         System.out.println("\n=== Hash Table Structure ===");
-        System.out.println("Capacity: " + capacity);
-        System.out.println("Size: " + size);
-        System.out.println("Load Factor: " + String.format("%.2f", getLoadFactor()));
-        System.out.println("\nChain Lengths:");
-
-        int emptySlots = 0;
-        int maxChainLength = 0;
-
-        for (int i = 0; i < capacity; i++) {
-            int chainLength = table[i].size();
-            if (chainLength == 0) {
-                emptySlots++;
-            } else {
-                maxChainLength = Math.max(maxChainLength, chainLength);
-                System.out.println("Slot " + i + ": " + chainLength + " entries");
-            }
+        if (oldTable != null) {
+            System.out.println("Rehashing: " + migrateIndex + "/" + oldCapacity + " old buckets moved");
         }
-
-        System.out.println("\nEmpty slots: " + emptySlots);
-        System.out.println("Max chain length: " + maxChainLength);
+        System.out.println(getMetrics());
         System.out.println("===========================\n");
     }
 
@@ -337,13 +991,7 @@ public class HashTable<K, V> {
         if (size == 0) return "{}";
 
         StringBuilder sb = new StringBuilder("{\n");
-        for (CustomLinkedList<Entry> chain : table) {
-            Node<Entry> current = chain.getHead();
-            while (current != null) {
-                sb.append("  ").append(current.getData()).append("\n");
-                current = current.getNext();
-            }
-        }
+        forEach((key, value) -> sb.append("  ").append(key).append("=").append(value).append("\n"));
         sb.append("}");
         return sb.toString();
     }
@@ -351,6 +999,8 @@ public class HashTable<K, V> {
     /**
      * Returns all values whose keys partially match the given substring.
      * Case-insensitive.
+     * Uses the substring index when it is enabled and the query is long
+     * enough, otherwise scans every key.
      *
      * @param substring Part of the key to search for
      * @return DynamicArray of matching values
@@ -364,17 +1014,58 @@ public class HashTable<K, V> {
 
         String lower = substring.toLowerCase();
 
-        // Get all keys from hash table
-        DynamicArray<K> allKeys = keys();
-
-        for (int i = 0; i < allKeys.size(); i++) {
-            K key = allKeys.get(i);
-            if (key != null && key.toString().toLowerCase().contains(lower)) {
-                results.add(get(key));
+        if (substringIndex != null) {
+            DynamicArray<Entry> candidates = substringIndex.candidates(lower);
+            if (candidates != null) {
+                // only keys sharing the rarest gram can match - verify each one
+                // (the posting is the entry itself, so no second lookup)
+                for (int i = 0; i < candidates.size(); i++) {
+                    Entry entry = candidates.get(i);
+                    if (entry.key.toString().toLowerCase().contains(lower)) {
+                        results.add(entry.value);
+                    }
+                }
+                return results;
             }
         }
 
+        // Walk the entries directly - the value is next to its key, no second lookup
+        forEach((key, value) -> {
+            if (key.toString().toLowerCase().contains(lower)) {
+                results.add(value);
+            }
+        });
+
         return results;
     }
 
-}
\ No newline at end of file
+    /**
+     * Called by XStream after loading a saved table
+     * Files written before hash strategies existed have no strategy and were
+     * laid out by character sum, so every entry is placed again (bulk path,
+     * sized once from the saved entry count).
+     */
+    private Object readResolve() {
+        Object[] savedKeys = new Object[size];
+        Object[] savedValues = new Object[size];
+        int[] count = {0};
+        forEach((key, value) -> {
+            savedKeys[count[0]] = key;
+            savedValues[count[0]] = value;
+            count[0]++;
+        });
+
+        if (hashStrategy == null) {
+            hashStrategy = HashStrategy.DEFAULT;
+        }
+        capacity = hashStrategy.tableSizeFor(capacity);
+        table = newTable(capacity);
+        oldTable = null;
+        size = 0;
+        substringIndex = substringIndexEnabled ? newSubstringIndex() : null;
+
+        bulkInsert(savedKeys, savedValues, count[0]);
+        return this;
+    }
+
+}
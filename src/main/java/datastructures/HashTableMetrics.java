@@ -0,0 +1,130 @@
+package datastructures;
+
+/**
+ * Point-in-time snapshot of a HashTable's shape and usage counters
+ * Returned by HashTable.getMetrics(); the snapshot never changes, so it can
+ * be stored or compared with a later one (e.g. to graph lookups per minute).
+ * Counters are cumulative since the table was created, loaded or last reset.
+ */
+public final class HashTableMetrics {
+
+    private final int capacity;
+    private final int size;
+    private final int[] chainLengthHistogram;
+    private final int maxChainLength;
+    private final long rehashCount;
+    private final long rehashNanos;
+    private final long hits;
+    private final long misses;
+    private final long lookups;
+    private final long comparisons;
+
+    HashTableMetrics(int capacity, int size, int[] chainLengthHistogram, long rehashCount, long rehashNanos,
+                     long hits, long misses, long lookups, long comparisons) {
+        this.capacity = capacity;
+        this.size = size;
+        this.chainLengthHistogram = chainLengthHistogram;
+        this.maxChainLength = chainLengthHistogram.length - 1;
+        this.rehashCount = rehashCount;
+        this.rehashNanos = rehashNanos;
+        this.hits = hits;
+        this.misses = misses;
+        this.lookups = lookups;
+        this.comparisons = comparisons;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getLoadFactor() {
+        return (double) size / capacity;
+    }
+
+    /**
+     * @return Number of slots with each chain length: element i counts the
+     *         slots holding exactly i entries (element 0 = empty slots)
+     */
+    public int[] getChainLengthHistogram() {
+        return chainLengthHistogram.clone();
+    }
+
+    public int getMaxChainLength() {
+        return maxChainLength;
+    }
+
+    public int getEmptySlots() {
+        return chainLengthHistogram[0];
+    }
+
+    /**
+     * @return Number of times the table started growing
+     */
+    public long getRehashCount() {
+        return rehashCount;
+    }
+
+    /**
+     * @return Total time spent moving entries to larger tables, in nanoseconds
+     */
+    public long getRehashNanos() {
+        return rehashNanos;
+    }
+
+    /**
+     * @return get() calls that found their key
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return get() calls that did not find their key
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * @return Key lookups of any kind (get, containsKey, and the existence check in put)
+     */
+    public long getLookups() {
+        return lookups;
+    }
+
+    /**
+     * @return Average number of key comparisons per lookup (0 = key's slot was empty)
+     */
+    public double getAverageComparisons() {
+        return lookups == 0 ? 0.0 : (double) comparisons / lookups;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Capacity: ").append(capacity).append("\n");
+        sb.append("Size: ").append(size).append("\n");
+        sb.append("Load Factor: ").append(String.format("%.2f", getLoadFactor())).append("\n");
+        sb.append("Chain Lengths:\n");
+        for (int length = 0; length < chainLengthHistogram.length; length++) {
+            if (chainLengthHistogram[length] > 0) {
+                sb.append("  ").append(length).append(": ").append(chainLengthHistogram[length]).append(" slots\n");
+            }
+        }
+        sb.append("Max chain length: ").append(maxChainLength).append("\n");
+        sb.append("Rehashes: ").append(rehashCount)
+                .append(" (").append(String.format("%.3f", rehashNanos / 1e6)).append(" ms)\n");
+        sb.append("Gets: ").append(hits).append(" hits, ").append(misses).append(" misses\n");
+        sb.append("Avg comparisons per lookup: ").append(String.format("%.2f", getAverageComparisons()));
+        return sb.toString();
+    }
+}
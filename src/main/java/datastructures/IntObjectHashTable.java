@@ -0,0 +1,214 @@
+package datastructures;
+
+/**
+ * Hash Table from primitive int keys to object values
+ * Open addressing (linear probing) over an int[] of keys and a value array,
+ * so lookups by year, vote count or ID never box an Integer.
+ * A null value marks an empty slot, so null values are not allowed.
+ * Key Features:
+ * - Keys hashed with MixingHashStrategy.hashInt (no Integer allocation)
+ * - Backward-shift deletion, power-of-two capacity
+ *
+ * @param <V> Value type
+ */
+public class IntObjectHashTable<V> {
+
+    /**
+     * Callback for forEach that takes the key as a primitive
+     */
+    @FunctionalInterface
+    public interface IntObjConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private int[] keys;
+    private Object[] values; // null = empty slot
+    private int size;
+    private int capacity;
+    private final MixingHashStrategy hashStrategy = new MixingHashStrategy();
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    public IntObjectHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntObjectHashTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = hashStrategy.tableSizeFor(capacity);
+        this.keys = new int[this.capacity];
+        this.values = new Object[this.capacity];
+    }
+
+    private int hash(int key) {
+        return hashStrategy.indexFor(hashStrategy.hashInt(key), capacity);
+    }
+
+    /**
+     * Slot of the key, or the empty slot where it would be inserted
+     */
+    private int probe(int key) {
+        int mask = capacity - 1;
+        int index = hash(key);
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * @return Value for key, or null if not found
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        return (V) values[probe(key)];
+    }
+
+    public boolean containsKey(int key) {
+        return values[probe(key)] != null;
+    }
+
+    /**
+     * Inserts or updates a key
+     *
+     * @return Previous value, or null if the key was new
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        int index = probe(key);
+        V old = (V) values[index];
+        if (old == null && size + 1 >= capacity) {
+            // one slot always stays empty (it ends every probe) and the table cannot grow
+            throw new IllegalStateException("Table is full");
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (old == null) {
+            size++;
+            // also grow tiny tables before their last empty slot is needed
+            if ((double) size / capacity > MAX_LOAD_FACTOR || size + 1 >= capacity) {
+                rehash();
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Removes a key (backward-shift deletion)
+     *
+     * @return Removed value, or null if the key was not found
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int index = probe(key);
+        V removed = (V) values[index];
+        if (removed == null) {
+            return null;
+        }
+        int mask = capacity - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+        size--;
+        return removed;
+    }
+
+    private void rehash() {
+        int newCapacity = hashStrategy.nextTableSize(capacity);
+        if (newCapacity <= capacity) {
+            return; // already at the size cap
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        capacity = newCapacity;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        size = 0;
+    }
+
+    /**
+     * Calls action for every primitive key and its value (no boxing)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(IntObjConsumer<? super V> action) {
+        for (int i = 0; i < capacity; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return All keys as a primitive array (table order)
+     */
+    public int[] keys() {
+        int[] keyArray = new int[size];
+        int j = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (values[i] != null) {
+                keyArray[j++] = keys[i];
+            }
+        }
+        return keyArray;
+    }
+
+    @SuppressWarnings("unchecked")
+    public DynamicArray<V> values() {
+        DynamicArray<V> valueList = new DynamicArray<>(Math.max(1, size));
+        for (int i = 0; i < capacity; i++) {
+            if (values[i] != null) {
+                valueList.add((V) values[i]);
+            }
+        }
+        return valueList;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "{}";
+
+        StringBuilder sb = new StringBuilder("{\n");
+        forEach((key, value) -> sb.append("  ").append(key).append("=").append(value).append("\n"));
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,177 @@
+package datastructures;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Common public API of the hash table implementations
+ * Lets ElectionSystemController swap the storage engine
+ * (separate chaining, open addressing, ...) without other changes
+ *
+ * @param <K> Key type (must have meaningful hashCode and equals)
+ * @param <V> Value type
+ */
+public interface KeyValueTable<K, V> {
+
+    /**
+     * Read-only view of one key-value pair handed out by entryIterator()
+     */
+    interface Entry<K, V> {
+        K getKey();
+
+        V getValue();
+    }
+
+    /**
+     * Callback for visit() - return false to stop the walk early
+     */
+    @FunctionalInterface
+    interface Visitor<K, V> {
+        boolean visit(K key, V value);
+    }
+
+    /**
+     * Inserts or updates a key-value pair
+     */
+    void put(K key, V value);
+
+    /**
+     * Inserts every value under the key computed by keyExtractor
+     * Implementations may size the table once for the whole batch
+     */
+    default void putAll(DynamicArray<? extends V> values, Function<? super V, ? extends K> keyExtractor) {
+        for (int i = 0; i < values.size(); i++) {
+            V value = values.get(i);
+            put(keyExtractor.apply(value), value);
+        }
+    }
+
+    /**
+     * @return Value associated with key, or null if not found
+     */
+    V get(K key);
+
+    /**
+     * @return true if key exists
+     */
+    boolean containsKey(K key);
+
+    // The defaults below look the key up more than once; the tables
+    // override them to hash and probe only once (atomically for
+    // ConcurrentHashTable)
+
+    /**
+     * Inserts the pair only if the key is not present yet
+     *
+     * @return The existing value, or null if the pair was inserted
+     */
+    default V putIfAbsent(K key, V value) {
+        if (containsKey(key)) {
+            return get(key);
+        }
+        put(key, value);
+        return null;
+    }
+
+    /**
+     * Returns the key's value, computing and inserting it first if the key
+     * is not present (nothing is inserted if the function returns null)
+     *
+     * @return Existing or newly computed value
+     */
+    default V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (containsKey(key)) {
+            return get(key);
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the key's value with remappingFunction(key, current value),
+     * where the current value is null for a missing key
+     * A null result removes the key
+     *
+     * @return New value, or null if the key was removed / not inserted
+     */
+    default V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V value = remappingFunction.apply(key, get(key));
+        if (value == null) {
+            remove(key);
+        } else {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Inserts value for a missing key, otherwise replaces the current value
+     * with remappingFunction(current value, value)
+     * A null result removes the key
+     *
+     * @return New value, or null if the key was removed
+     */
+    default V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        return compute(key, (k, current) -> current == null ? value : remappingFunction.apply(current, value));
+    }
+
+    /**
+     * @return Value that was removed, or null if key not found
+     */
+    V remove(K key);
+
+    int size();
+
+    boolean isEmpty();
+
+    void clear();
+
+    /**
+     * @return Load factor = number of entries / table capacity
+     */
+    double getLoadFactor();
+
+    /**
+     * @return DynamicArray of all keys
+     */
+    DynamicArray<K> keys();
+
+    /**
+     * @return DynamicArray of all values
+     */
+    DynamicArray<V> values();
+
+    /**
+     * Returns all values whose keys partially match the given substring.
+     * Case-insensitive. Empty or null substring returns all values.
+     */
+    DynamicArray<V> searchByPartialKey(String substring);
+
+    /**
+     * Calls action for every key-value pair, walking the buckets directly
+     * (no intermediate arrays are built)
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    /**
+     * Walks the entries until the visitor returns false
+     *
+     * @return true if every entry was visited, false if the visitor stopped early
+     */
+    boolean visit(Visitor<? super K, ? super V> visitor);
+
+    /**
+     * Iterator over the entries of the table
+     * Implementations may reuse one Entry object for every step, so an
+     * entry is only valid until next() is called again
+     */
+    Iterator<Entry<K, V>> entryIterator();
+}
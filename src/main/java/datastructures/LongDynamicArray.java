@@ -0,0 +1,176 @@
+package datastructures;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of primitive longs
+ * Same growth rules as DynamicArray, but values are stored in a long[],
+ * so vote totals and other running counts take 8 bytes per element and
+ * are never boxed.
+ */
+public class LongDynamicArray {
+    private long[] data;
+    private int size;
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double GROWTH_FACTOR = 1.5;
+
+    public LongDynamicArray() {
+        data = new long[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    public LongDynamicArray(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        data = new long[initialCapacity];
+        size = 0;
+    }
+
+    public void add(long value) {
+        if (size == data.length) {
+            ensureCapacity(size + 1);
+        }
+        data[size++] = value;
+    }
+
+    /**
+     * Appends values[from..to-1] (one block copy)
+     */
+    public void addAll(long[] values, int from, int to) {
+        if (from < 0 || to > values.length || from > to) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        int count = to - from;
+        ensureCapacity(size + count);
+        System.arraycopy(values, from, data, size, count);
+        size += count;
+    }
+
+    public void addAll(long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    public void addAll(LongDynamicArray other) {
+        addAll(other.data, 0, other.size);
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        return data[index];
+    }
+
+    public long set(int index, long value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        long old = data[index];
+        data[index] = value;
+        return old;
+    }
+
+    public long removeLast() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Array is empty");
+        }
+        return data[--size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0; // primitives hold no references, the array can be reused
+    }
+
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Sorts the values in ascending order
+     */
+    public void sort() {
+        Arrays.sort(data, 0, size);
+    }
+
+    /**
+     * Binary search - the array must be sorted (see sort())
+     *
+     * @return Index of value, or (-(insertion point) - 1) if not present
+     */
+    public int binarySearch(long value) {
+        return Arrays.binarySearch(data, 0, size, value);
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public long sum() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += data[i];
+        }
+        return total;
+    }
+
+    public long min() {
+        if (size == 0) {
+            throw new IllegalStateException("Array is empty");
+        }
+        long min = data[0];
+        for (int i = 1; i < size; i++) {
+            min = Math.min(min, data[i]);
+        }
+        return min;
+    }
+
+    public long max() {
+        if (size == 0) {
+            throw new IllegalStateException("Array is empty");
+        }
+        long max = data[0];
+        for (int i = 1; i < size; i++) {
+            max = Math.max(max, data[i]);
+        }
+        return max;
+    }
+
+    // grows once to hold at least minCapacity values
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            int grown = (int) Math.min(Integer.MAX_VALUE - 8, (long) (data.length * GROWTH_FACTOR));
+            data = Arrays.copyOf(data, Math.max(minCapacity, Math.max(grown, data.length + 1)));
+        }
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(data[i]);
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -0,0 +1,112 @@
+package datastructures;
+
+/**
+ * Seeded mixing hash (MurmurHash3 style) on power-of-two tables
+ * Every character influences every output bit, so anagrams and names
+ * that differ only by letter order land in different slots.
+ * Strings are hashed two characters per round; other keys have their
+ * hashCode() run through the same finaliser.
+ */
+public class MixingHashStrategy implements HashStrategy {
+
+    private static final int DEFAULT_SEED = 0x9747b28c;
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+    // largest power-of-two int, table sizes are capped here
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private final int seed;
+
+    public MixingHashStrategy() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * @param seed Seed mixed into every hash; different seeds give unrelated slot layouts
+     */
+    public MixingHashStrategy(int seed) {
+        this.seed = seed;
+    }
+
+    public int getSeed() {
+        return seed;
+    }
+
+    @Override
+    public int hash(Object key) {
+        if (key instanceof String) {
+            return hashString((String) key);
+        }
+        return fmix(key.hashCode() ^ seed);
+    }
+
+    /**
+     * Hash of a primitive int key without boxing it
+     * Same result as hash(Integer.valueOf(key))
+     */
+    public int hashInt(int key) {
+        return fmix(key ^ seed);
+    }
+
+    private int hashString(String s) {
+        int h = seed;
+        int length = s.length();
+        int i = 0;
+
+        // two UTF-16 characters per round
+        for (; i + 1 < length; i += 2) {
+            int k = s.charAt(i) | (s.charAt(i + 1) << 16);
+            h ^= mixK(k);
+            h = Integer.rotateLeft(h, 13);
+            h = h * 5 + 0xe6546b64;
+        }
+        // odd trailing character
+        if (i < length) {
+            h ^= mixK(s.charAt(i));
+        }
+
+        h ^= length * 2;
+        return fmix(h);
+    }
+
+    private static int mixK(int k) {
+        k *= C1;
+        k = Integer.rotateLeft(k, 15);
+        return k * C2;
+    }
+
+    /**
+     * MurmurHash3 finaliser - forces all bits of h to avalanche
+     */
+    private static int fmix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    @Override
+    public int indexFor(int hash, int capacity) {
+        return hash & (capacity - 1);
+    }
+
+    @Override
+    public int tableSizeFor(int requestedCapacity) {
+        if (requestedCapacity >= MAX_TABLE_SIZE) {
+            return MAX_TABLE_SIZE;
+        }
+        return Math.max(2, Integer.highestOneBit(Math.max(1, requestedCapacity - 1)) << 1);
+    }
+
+    @Override
+    public int nextTableSize(int currentCapacity) {
+        return currentCapacity >= MAX_TABLE_SIZE ? MAX_TABLE_SIZE : currentCapacity * 2;
+    }
+
+    @Override
+    public String toString() {
+        return "MixingHashStrategy(seed=" + seed + ")";
+    }
+}
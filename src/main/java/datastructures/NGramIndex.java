@@ -0,0 +1,210 @@
+package datastructures;
+
+import java.util.function.Function;
+
+/**
+ * Inverted n-gram index for case-insensitive substring search
+ * The text of every element (by default element.toString()) is lowercased
+ * and cut into overlapping n-character grams ("murphy" -> "mur", "urp",
+ * "rph", "phy"). Each gram maps to a posting list of the elements whose
+ * text contains it.
+ * A substring query only has to look at the elements in the shortest
+ * posting list of its grams instead of scanning everything.
+ * Every element also remembers its slot in each of its posting lists, so
+ * remove() swaps the last posting into the freed slot (O(1) per gram)
+ * instead of searching the list; posting lists are therefore unordered.
+ * Used by HashTable.enableSubstringIndex() (elements are the table's
+ * entries, so a match already has its value) and kept up to date on
+ * put/remove.
+ *
+ * @param <E> Element type (elements must not change their text while indexed)
+ */
+public class NGramIndex<E> {
+
+    private final int n;
+    private final Function<? super E, String> text;
+    private final HashTable<String, Postings<E>> postings;
+    // slot of each element in the posting list of its i-th gram (-1: repeated gram)
+    private final HashTable<E, int[]> slots;
+    private long postingCount; // total number of element references in all posting lists
+
+    // rough JVM object sizes used for memory accounting (64-bit, compressed oops)
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int INT = 4;
+    private static final int STRING_OVERHEAD = 24 + OBJECT_HEADER; // String + its byte[] header
+    private static final int CHAIN_ENTRY = 24 + 24; // HashTable Entry + Node
+    private static final int POSTING_LIST = OBJECT_HEADER + 2 * (24 + OBJECT_HEADER); // Postings + two arrays
+
+    public static final int DEFAULT_N = 3;
+
+    // one gram's posting list: element i is posted for its gramIndex[i]-th gram
+    private static final class Postings<E> {
+        final DynamicArray<E> elements = new DynamicArray<>(2);
+        final IntDynamicArray gramIndex = new IntDynamicArray(2);
+    }
+
+    public NGramIndex() {
+        this(DEFAULT_N);
+    }
+
+    /**
+     * @param n Gram length (3 = trigrams)
+     */
+    public NGramIndex(int n) {
+        this(n, Object::toString);
+    }
+
+    /**
+     * @param n    Gram length (3 = trigrams)
+     * @param text Text of an element to cut into grams
+     */
+    public NGramIndex(int n, Function<? super E, String> text) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Gram length must be at least 1");
+        }
+        this.n = n;
+        this.text = text;
+        this.postings = new HashTable<>();
+        this.slots = new HashTable<>();
+        this.postingCount = 0;
+    }
+
+    public int getGramLength() {
+        return n;
+    }
+
+    /**
+     * Adds an element to the posting list of each of its grams
+     * Texts shorter than n are not indexed (queries that short fall back to a scan)
+     */
+    public void add(E element) {
+        String lower = text.apply(element).toLowerCase();
+        int grams = lower.length() - n + 1;
+        if (grams <= 0) {
+            return;
+        }
+        int[] elementSlots = new int[grams];
+        for (int i = 0; i < grams; i++) {
+            Postings<E> list = postings.computeIfAbsent(lower.substring(i, i + n), g -> new Postings<>());
+            int size = list.elements.size();
+            // grams of one element are added back to back, so a repeated gram
+            // ("aaaa" -> "aaa" twice) finds the element at the end of its list
+            if (size > 0 && list.elements.get(size - 1) == element) {
+                elementSlots[i] = -1;
+                continue;
+            }
+            elementSlots[i] = size;
+            list.elements.add(element);
+            list.gramIndex.add(i);
+            postingCount++;
+        }
+        slots.put(element, elementSlots);
+    }
+
+    /**
+     * Removes an element from the posting lists of its grams
+     * Each posting is replaced by the last one of its list; empty posting
+     * lists are dropped
+     */
+    public void remove(E element) {
+        int[] elementSlots = slots.remove(element);
+        if (elementSlots == null) {
+            return;
+        }
+        String lower = text.apply(element).toLowerCase();
+        for (int i = 0; i < elementSlots.length; i++) {
+            int slot = elementSlots[i];
+            if (slot < 0) {
+                continue;
+            }
+            String gram = lower.substring(i, i + n);
+            Postings<E> list = postings.get(gram);
+            int last = list.elements.size() - 1;
+            if (slot != last) {
+                E moved = list.elements.get(last);
+                int movedGram = list.gramIndex.get(last);
+                list.elements.set(slot, moved);
+                list.gramIndex.set(slot, movedGram);
+                slots.get(moved)[movedGram] = slot;
+            }
+            list.elements.remove(last);
+            list.gramIndex.removeLast();
+            postingCount--;
+            if (list.elements.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        slots.clear();
+        postingCount = 0;
+    }
+
+    /**
+     * Candidate elements for a substring query
+     * Returns the shortest posting list among the query's grams; every
+     * element containing the query is in it, but callers must still verify
+     * each candidate with contains() (sharing all grams is not the same as
+     * containing the substring).
+     *
+     * @param lowerQuery Lowercased query
+     * @return Candidate elements (shared list in no particular order, do not
+     *         modify), an empty list if some gram is not indexed at all, or
+     *         null if the query is shorter than n
+     */
+    public DynamicArray<E> candidates(String lowerQuery) {
+        if (lowerQuery.length() < n) {
+            return null; // too short to use the index
+        }
+        DynamicArray<E> shortest = null;
+        for (int i = 0; i + n <= lowerQuery.length(); i++) {
+            Postings<E> list = postings.get(lowerQuery.substring(i, i + n));
+            if (list == null) {
+                return new DynamicArray<>(1); // no element has this gram -> no match
+            }
+            if (shortest == null || list.elements.size() < shortest.size()) {
+                shortest = list.elements;
+            }
+        }
+        return shortest;
+    }
+
+    /**
+     * @return Number of distinct grams in the index
+     */
+    public int getGramCount() {
+        return postings.size();
+    }
+
+    /**
+     * @return Total number of element references held by all posting lists
+     */
+    public long getPostingCount() {
+        return postingCount;
+    }
+
+    /**
+     * Estimated heap used by the index, in bytes
+     * Counts the gram strings, the table entries holding them, the posting
+     * list objects, one reference and one gram number per posting (plus
+     * growth slack) and each element's slot array.
+     * Elements themselves are shared with the indexed table and not counted.
+     */
+    public long estimateMemoryBytes() {
+        long perGram = STRING_OVERHEAD + n + CHAIN_ENTRY + POSTING_LIST;
+        long gramBytes = (long) postings.size() * perGram;
+        long postingBytes = (long) (postingCount * (REFERENCE + INT) * 1.25); // arrays grow by 1.5x
+        long slotBytes = (long) slots.size() * (CHAIN_ENTRY + OBJECT_HEADER) + postingCount * INT;
+        long tableBytes = OBJECT_HEADER + (long) (postings.size() + slots.size()) * 2 * REFERENCE; // <= 0.7 load
+        return gramBytes + postingBytes + slotBytes + tableBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "NGramIndex(n=" + n + ", grams=" + getGramCount()
+                + ", postings=" + postingCount + ", ~" + estimateMemoryBytes() / 1024 + " KB)";
+    }
+}
@@ -7,6 +7,8 @@ package datastructures;
 public class Node<T> {
     private T data; //data stored in node
     private Node<T> next; // creates chain
+    // only maintained by DoublyLinkedList; not saved (rebuilt on load)
+    private transient Node<T> prev;
 
     public Node(T data){
         this.data = data;
@@ -23,6 +25,13 @@ public class Node<T> {
     public void setNext(Node<T> next){
         this.next = next;
     }
+    public Node<T> getPrev(){
+        return this.prev;
+    }
+
+    public void setPrev(Node<T> prev){
+        this.prev = prev;
+    }
     public void setData(T data){
         this.data = data;
     }
@@ -0,0 +1,280 @@
+package datastructures;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Hash Table from object keys to primitive long values
+ * Open addressing (linear probing) over a key array and an long[] of values,
+ * so counters and tallies never box a Long and updating an existing
+ * key allocates nothing.
+ * Key Features:
+ * - addTo / increment update a counter with a single probe
+ * - get returns a configurable "no entry" value instead of null
+ * - Backward-shift deletion, slot placement by HashStrategy.DEFAULT
+ *
+ * @param <K> Key type (must have meaningful hashCode and equals)
+ */
+public class ObjectLongHashTable<K> {
+
+    private Object[] keys; // null = empty slot
+    private long[] values;
+    private int size;
+    private int capacity;
+    private final long noEntryValue;
+    private final HashStrategy hashStrategy = HashStrategy.DEFAULT;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    public ObjectLongHashTable() {
+        this(DEFAULT_CAPACITY, 0);
+    }
+
+    public ObjectLongHashTable(int capacity) {
+        this(capacity, 0);
+    }
+
+    /**
+     * @param capacity Initial capacity
+     * @param noEntryValue Value returned by get() for missing keys
+     */
+    public ObjectLongHashTable(int capacity, long noEntryValue) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = hashStrategy.tableSizeFor(capacity);
+        this.keys = new Object[this.capacity];
+        this.values = new long[this.capacity];
+        this.noEntryValue = noEntryValue;
+    }
+
+    private int hash(Object key) {
+        return hashStrategy.indexOf(key, capacity);
+    }
+
+    /**
+     * Slot of the key, or the empty slot where it would be inserted
+     */
+    private int probe(Object key) {
+        int mask = capacity - 1;
+        int index = hash(key);
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * @return Value for key, or the no-entry value if missing
+     */
+    public long get(K key) {
+        return getOrDefault(key, noEntryValue);
+    }
+
+    public long getOrDefault(K key, long defaultValue) {
+        if (key == null) {
+            return defaultValue;
+        }
+        int index = probe(key);
+        return keys[index] == null ? defaultValue : values[index];
+    }
+
+    public boolean containsKey(K key) {
+        return key != null && keys[probe(key)] != null;
+    }
+
+    /**
+     * Inserts or updates a key
+     *
+     * @return Previous value, or the no-entry value if the key was new
+     */
+    public long put(K key, long value) {
+        int index = slotFor(key);
+        if (keys[index] == null) {
+            insertAt(index, key, value);
+            return noEntryValue;
+        }
+        long old = values[index];
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * Adds delta to the key's value (a missing key starts at 0)
+     *
+     * @return The new value
+     */
+    public long addTo(K key, long delta) {
+        int index = slotFor(key);
+        if (keys[index] == null) {
+            insertAt(index, key, delta);
+            return delta;
+        }
+        values[index] += delta;
+        return values[index];
+    }
+
+    /**
+     * Adds one to the key's value (a missing key starts at 0)
+     *
+     * @return The new value
+     */
+    public long increment(K key) {
+        return addTo(key, 1);
+    }
+
+    /**
+     * Adds every value of other to this table (addTo per key), e.g. to
+     * combine partial tallies built by parallel workers
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(ObjectLongHashTable<? extends K> other) {
+        for (int i = 0; i < other.capacity; i++) {
+            if (other.keys[i] != null) {
+                addTo((K) other.keys[i], other.values[i]);
+            }
+        }
+    }
+
+    private int slotFor(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        return probe(key);
+    }
+
+    private void insertAt(int index, K key, long value) {
+        if (size + 1 >= capacity) {
+            // one slot always stays empty (it ends every probe) and the table cannot grow
+            throw new IllegalStateException("Table is full");
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        // also grow tiny tables before their last empty slot is needed
+        if ((double) size / capacity > MAX_LOAD_FACTOR || size + 1 >= capacity) {
+            rehash();
+        }
+    }
+
+    /**
+     * Removes a key (backward-shift deletion)
+     *
+     * @return Removed value, or the no-entry value if the key was missing
+     */
+    public long remove(K key) {
+        if (key == null) {
+            return noEntryValue;
+        }
+        int index = probe(key);
+        if (keys[index] == null) {
+            return noEntryValue;
+        }
+        long removed = values[index];
+        int mask = capacity - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (keys[next] != null) {
+            int home = hash(keys[next]);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = null;
+        values[hole] = 0L;
+        size--;
+        return removed;
+    }
+
+    private void rehash() {
+        int newCapacity = hashStrategy.nextTableSize(capacity);
+        if (newCapacity <= capacity) {
+            return; // already at the size cap
+        }
+        Object[] oldKeys = keys;
+        long[] oldValues = values;
+        capacity = newCapacity;
+        keys = new Object[capacity];
+        values = new long[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = hash(oldKeys[i]);
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        keys = new Object[capacity];
+        values = new long[capacity];
+        size = 0;
+    }
+
+    /**
+     * @return Value returned by get() for missing keys
+     */
+    public long getNoEntryValue() {
+        return noEntryValue;
+    }
+
+    /**
+     * Calls action for every key and its primitive value (no boxing)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjLongConsumer<? super K> action) {
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                action.accept((K) keys[i], values[i]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public DynamicArray<K> keys() {
+        DynamicArray<K> keyList = new DynamicArray<>(Math.max(1, size));
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                keyList.add((K) keys[i]);
+            }
+        }
+        return keyList;
+    }
+
+    /**
+     * @return Sum of all values
+     */
+    public long sum() {
+        long total = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                total += values[i];
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "{}";
+
+        StringBuilder sb = new StringBuilder("{\n");
+        forEach((key, value) -> sb.append("  ").append(key).append("=").append(value).append("\n"));
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,504 @@
+package datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Generic Hash Table Implementation using Open Addressing (linear probing)
+ * Keys and values are stored in two parallel arrays, so a lookup walks
+ * neighbouring slots instead of chasing linked list nodes.
+ * Key Features:
+ * - No per-entry Node/Entry allocation
+ * - Linear probing, slot placement delegated to a HashStrategy
+ * - Backward-shift deletion (no tombstones, probe runs stay short)
+ * - Same public API as HashTable
+ *
+ * @param <K> Key type (must have meaningful hashCode and equals)
+ * @param <V> Value type
+ */
+public class OpenAddressingHashTable<K, V> implements KeyValueTable<K, V> {
+
+    private Object[] keys;   // null = empty slot
+    private Object[] values;
+    private int size; // Number of entries
+    private int capacity; // Table size
+    private HashStrategy hashStrategy;
+    private static final int DEFAULT_CAPACITY = 128;
+    private static final double MAX_LOAD_FACTOR = 0.7;
+
+    /**
+     * Constructor with default capacity
+     */
+    public OpenAddressingHashTable() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor with specified capacity
+     * @param capacity Initial capacity (normalised by the hash strategy)
+     */
+    public OpenAddressingHashTable(int capacity) {
+        this(capacity, HashStrategy.DEFAULT);
+    }
+
+    /**
+     * Constructor with specified capacity and hash strategy
+     * @param capacity Initial capacity
+     * @param hashStrategy Strategy used to place keys
+     */
+    public OpenAddressingHashTable(int capacity, HashStrategy hashStrategy) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (hashStrategy == null) {
+            throw new IllegalArgumentException("Hash strategy cannot be null");
+        }
+        this.hashStrategy = hashStrategy;
+        this.capacity = hashStrategy.tableSizeFor(capacity);
+        this.keys = new Object[this.capacity];
+        this.values = new Object[this.capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Hash function, delegated to the configured strategy
+     *
+     * @param key Key to hash
+     * @return Home slot of the key
+     */
+    private int hash(Object key) {
+        return hashStrategy.indexOf(key, capacity);
+    }
+
+    // next slot of a probe run, wrapping at the end of the table
+    private int nextSlot(int index) {
+        return index + 1 == capacity ? 0 : index + 1;
+    }
+
+    // number of slots walked going from one slot to another
+    private int distance(int from, int to) {
+        return to >= from ? to - from : to + capacity - from;
+    }
+
+    public HashStrategy getHashStrategy() {
+        return hashStrategy;
+    }
+
+    /**
+     * Finds the slot holding the key
+     *
+     * @return slot index, or -1 if the key is not present
+     */
+    private int findSlot(Object key) {
+        int index = hash(key);
+        while (keys[index] != null) {
+            if (keys[index].equals(key)) {
+                return index;
+            }
+            index = nextSlot(index);
+        }
+        return -1;
+    }
+
+    /**
+     * Walks the key's probe run once
+     *
+     * @return slot holding the key, or the empty slot where it would be inserted
+     */
+    private int probe(Object key) {
+        int index = hash(key);
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = nextSlot(index);
+        }
+        return index;
+    }
+
+    /**
+     * Inserts or updates a key-value pair
+     *
+     * @param key Key to insert/update
+     * @param value Value to store
+     */
+    @Override
+    public void put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int index = probe(key);
+        if (keys[index] != null) {
+            // Update existing value
+            values[index] = value;
+            return;
+        }
+        insertAt(index, key, value);
+    }
+
+    // fills the empty slot found by probe()
+    private void insertAt(int index, K key, V value) {
+        if (size + 1 >= capacity) {
+            // one slot always stays empty (it ends every probe) and the table cannot grow
+            throw new IllegalStateException("Table is full");
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+
+        // Check load factor (tiny tables also grow before their last empty slot is needed)
+        if (getLoadFactor() > MAX_LOAD_FACTOR || size + 1 >= capacity) {
+            rehash();
+        }
+    }
+
+    /**
+     * Inserts the pair only if the key is not present yet (one probe)
+     *
+     * @return The existing value, or null if the pair was inserted
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int index = probe(key);
+        if (keys[index] != null) {
+            return (V) values[index];
+        }
+        insertAt(index, key, value);
+        return null;
+    }
+
+    /**
+     * Returns the key's value, computing and inserting it first if missing (one probe)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int index = probe(key);
+        if (keys[index] != null) {
+            return (V) values[index];
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            insertAt(index, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Replaces the key's value with remappingFunction(key, current value) (one probe)
+     * A null result removes the key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        int index = probe(key);
+        boolean present = keys[index] != null;
+        V value = remappingFunction.apply(key, present ? (V) values[index] : null);
+        if (!present) {
+            if (value != null) {
+                insertAt(index, key, value);
+            }
+        } else if (value == null) {
+            removeAt(index);
+        } else {
+            values[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves value for given key
+     *
+     * @return Value associated with key, or null if not found
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        int index = findSlot(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    /**
+     * Checks if key exists in table
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return key != null && findSlot(key) >= 0;
+    }
+
+    /**
+     * Removes entry with given key
+     * Following entries of the same probe run are shifted back
+     * so that no tombstones are needed
+     *
+     * @return Value that was removed, or null if key not found
+     */
+    @Override
+    public V remove(K key) {
+        if (key == null) {
+            return null;
+        }
+        int index = findSlot(key);
+        if (index < 0) {
+            return null; // Key not found
+        }
+        return removeAt(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int index) {
+        V removedValue = (V) values[index];
+
+        // Backward-shift deletion
+        int hole = index;
+        int next = nextSlot(hole);
+        while (keys[next] != null) {
+            int home = hash(keys[next]);
+            // move the entry into the hole unless its home lies cyclically in (hole, next]
+            if (distance(home, next) >= distance(hole, next)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = nextSlot(next);
+        }
+        keys[hole] = null;
+        values[hole] = null;
+        size--;
+        return removedValue;
+    }
+
+    @Override
+    public double getLoadFactor() {
+        return (double) size / capacity;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        size = 0;
+    }
+
+    /**
+     * Grows the table and reinserts every entry
+     * Entries are placed directly (no equals checks, no load factor checks)
+     * Does nothing once the table is at the strategy's size cap
+     */
+    private void rehash() {
+        int newCapacity = hashStrategy.nextTableSize(capacity);
+        if (newCapacity <= capacity) {
+            return;
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+
+        capacity = newCapacity;
+        keys = new Object[capacity];
+        values = new Object[capacity];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int index = hash(oldKeys[i]);
+                while (keys[index] != null) {
+                    index = nextSlot(index);
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Calls action for every key-value pair, scanning the slot arrays directly
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                action.accept((K) keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Walks the entries until the visitor returns false
+     *
+     * @return true if every entry was visited, false if the visitor stopped early
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean visit(Visitor<? super K, ? super V> visitor) {
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null && !visitor.visit((K) keys[i], (V) values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Iterator over the entries
+     * There are no entry objects in this table, so the iterator hands out
+     * itself as the entry: each returned entry is only valid until the next
+     * call to next(). The table must not be modified while iterating.
+     */
+    @Override
+    public Iterator<Entry<K, V>> entryIterator() {
+        return new SlotIterator();
+    }
+
+    private class SlotIterator implements Iterator<Entry<K, V>>, Entry<K, V> {
+        private int current = -1;
+        private int next = findOccupied(0);
+
+        private int findOccupied(int from) {
+            while (from < capacity && keys[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < capacity;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next >= capacity) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = findOccupied(next + 1);
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) keys[current];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[current];
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DynamicArray<K> keys() {
+        DynamicArray<K> keyList = new DynamicArray<>(Math.max(1, size));
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                keyList.add((K) keys[i]);
+            }
+        }
+        return keyList;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public DynamicArray<V> values() {
+        DynamicArray<V> valueList = new DynamicArray<>(Math.max(1, size));
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                valueList.add((V) values[i]);
+            }
+        }
+        return valueList;
+    }
+
+    /**
+     * Returns all values whose keys partially match the given substring.
+     * Case-insensitive.
+     *
+     * @param substring Part of the key to search for
+     * @return DynamicArray of matching values
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public DynamicArray<V> searchByPartialKey(String substring) {
+        if (substring == null || substring.trim().isEmpty()) {
+            return values(); // return all
+        }
+
+        DynamicArray<V> results = new DynamicArray<>();
+        String lower = substring.toLowerCase();
+
+        // Walk the slots directly, the value sits next to its key
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null && keys[i].toString().toLowerCase().contains(lower)) {
+                results.add((V) values[i]);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Display hash table structure (for debugging)
+     * Shows probe run lengths instead of chain lengths
+     */
+    public void displayStructure() {
+        System.out.println("\n=== Open Addressing Table Structure ===");
+        System.out.println("Capacity: " + capacity);
+        System.out.println("Size: " + size);
+        System.out.println("Load Factor: " + String.format("%.2f", getLoadFactor()));
+
+        int maxProbe = 0;
+        long totalProbe = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                int probe = distance(hash(keys[i]), i) + 1;
+                maxProbe = Math.max(maxProbe, probe);
+                totalProbe += probe;
+            }
+        }
+
+        System.out.println("Max probe length: " + maxProbe);
+        System.out.println("Average probe length: "
+                + String.format("%.2f", size == 0 ? 0.0 : (double) totalProbe / size));
+        System.out.println("=======================================\n");
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "{}";
+
+        StringBuilder sb = new StringBuilder("{\n");
+        for (int i = 0; i < capacity; i++) {
+            if (keys[i] != null) {
+                sb.append("  ").append(keys[i]).append("=").append(values[i]).append("\n");
+            }
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,494 @@
+package datastructures;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Persistent (immutable) Hash Table - Hash Array Mapped Trie
+ * Every put/remove returns a new table and leaves the old one untouched.
+ * The new version shares all unchanged nodes with the old one, so a write
+ * only copies the O(log32 n) nodes on the path to the key and holding on
+ * to an old version costs nothing.
+ * Key Features:
+ * - Each trie level consumes 5 bits of the key's hash (32-way branching)
+ * - Nodes store only occupied slots, indexed by a 32-bit bitmap + bitCount
+ * - Keys with identical full hashes share a collision node
+ * - Safe to read from any thread: a version never changes once built
+ *
+ * @param <K> Key type (must have meaningful hashCode and equals)
+ * @param <V> Value type
+ */
+public final class PersistentHashTable<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final HashStrategy HASH_STRATEGY = HashStrategy.DEFAULT;
+
+    private static final PersistentHashTable<?, ?> EMPTY =
+            new PersistentHashTable<>(new BitmapNode<>(0, new Object[0]), 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentHashTable(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @return The empty table (shared, since it can never change)
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashTable<K, V> empty() {
+        return (PersistentHashTable<K, V>) EMPTY;
+    }
+
+    /**
+     * Builds a persistent copy of any table
+     */
+    public static <K, V> PersistentHashTable<K, V> copyOf(KeyValueTable<K, V> source) {
+        final class Builder {
+            PersistentHashTable<K, V> table = empty();
+        }
+        Builder builder = new Builder();
+        source.forEach((key, value) -> builder.table = builder.table.put(key, value));
+        return builder.table;
+    }
+
+    /**
+     * Returns a table with the key mapped to value
+     * Returns this table if the key already maps to the same value
+     */
+    public PersistentHashTable<K, V> put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        boolean[] added = new boolean[1];
+        Node<K, V> newRoot = root.put(new Leaf<>(HASH_STRATEGY.hash(key), key, value), 0, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashTable<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a table without the key (this table if the key is absent)
+     */
+    public PersistentHashTable<K, V> remove(K key) {
+        if (key == null) {
+            return this;
+        }
+        Node<K, V> newRoot = root.remove(HASH_STRATEGY.hash(key), 0, key);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot == null) {
+            return empty();
+        }
+        return new PersistentHashTable<>(newRoot, size - 1);
+    }
+
+    /**
+     * @return Value associated with key, or null if not found
+     */
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        Leaf<K, V> leaf = root.find(HASH_STRATEGY.hash(key), 0, key);
+        return leaf == null ? null : leaf.value;
+    }
+
+    public boolean containsKey(K key) {
+        return key != null && root.find(HASH_STRATEGY.hash(key), 0, key) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Calls action for every key-value pair (trie order)
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        root.visit((key, value) -> {
+            action.accept(key, value);
+            return true;
+        });
+    }
+
+    /**
+     * Walks the entries until the visitor returns false
+     *
+     * @return true if every entry was visited, false if the visitor stopped early
+     */
+    public boolean visit(KeyValueTable.Visitor<? super K, ? super V> visitor) {
+        return root.visit(visitor);
+    }
+
+    public DynamicArray<K> keys() {
+        DynamicArray<K> keyList = new DynamicArray<>(Math.max(1, size));
+        forEach((key, value) -> keyList.add(key));
+        return keyList;
+    }
+
+    public DynamicArray<V> values() {
+        DynamicArray<V> valueList = new DynamicArray<>(Math.max(1, size));
+        forEach((key, value) -> valueList.add(value));
+        return valueList;
+    }
+
+    /**
+     * Returns all values whose keys partially match the given substring.
+     * Case-insensitive.
+     */
+    public DynamicArray<V> searchByPartialKey(String substring) {
+        if (substring == null || substring.trim().isEmpty()) {
+            return values(); // return all
+        }
+
+        DynamicArray<V> results = new DynamicArray<>();
+        String lower = substring.toLowerCase();
+        forEach((key, value) -> {
+            if (key.toString().toLowerCase().contains(lower)) {
+                results.add(value);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * @return Depth of the deepest node (0 = everything in the root)
+     */
+    public int getDepth() {
+        return root.depth();
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) return "{}";
+
+        StringBuilder sb = new StringBuilder("{\n");
+        forEach((key, value) -> sb.append("  ").append(key).append("=").append(value).append("\n"));
+        sb.append("}");
+        return sb.toString();
+    }
+
+    // ==================== TRIE NODES ====================
+
+    /**
+     * Key-value pair with its cached full hash
+     */
+    private static final class Leaf<K, V> {
+        final int hash;
+        final K key;
+        final V value;
+
+        Leaf(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        boolean matches(int hash, K key) {
+            return this.hash == hash && this.key.equals(key);
+        }
+    }
+
+    private abstract static class Node<K, V> {
+        abstract Leaf<K, V> find(int hash, int shift, K key);
+
+        /**
+         * @return New node with the leaf added, or this node if nothing changed
+         */
+        abstract Node<K, V> put(Leaf<K, V> leaf, int shift, boolean[] added);
+
+        /**
+         * @return New node without the key, this node if the key is absent,
+         *         or null if the node became empty
+         */
+        abstract Node<K, V> remove(int hash, int shift, K key);
+
+        /**
+         * @return The only leaf if this node holds exactly one leaf, else null
+         *         (such nodes are pulled up into their parent)
+         */
+        abstract Leaf<K, V> singleLeaf();
+
+        abstract boolean visit(KeyValueTable.Visitor<? super K, ? super V> visitor);
+
+        abstract int depth();
+    }
+
+    /**
+     * Inner trie node - slots holds only the occupied children (Leaf or
+     * Node) in bit order, so a node with 3 children is a 3-element array
+     */
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+        final int bitmap;
+        final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private static int bitFor(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private int slotIndex(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Leaf<K, V> find(int hash, int shift, K key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[slotIndex(bit)];
+            if (slot instanceof Leaf) {
+                Leaf<K, V> leaf = (Leaf<K, V>) slot;
+                return leaf.matches(hash, key) ? leaf : null;
+            }
+            return ((Node<K, V>) slot).find(hash, shift + BITS, key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> put(Leaf<K, V> leaf, int shift, boolean[] added) {
+            int bit = bitFor(leaf.hash, shift);
+            int index = slotIndex(bit);
+
+            if ((bitmap & bit) == 0) {
+                // Empty slot - insert the leaf
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = leaf;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                added[0] = true;
+                return new BitmapNode<>(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Leaf) {
+                Leaf<K, V> existing = (Leaf<K, V>) slot;
+                if (existing.matches(leaf.hash, leaf.key)) {
+                    if (existing.value == leaf.value) {
+                        return this;
+                    }
+                    replacement = leaf; // update
+                } else {
+                    replacement = merge(existing, leaf, shift + BITS);
+                    added[0] = true;
+                }
+            } else {
+                Node<K, V> child = (Node<K, V>) slot;
+                Node<K, V> newChild = child.put(leaf, shift + BITS, added);
+                if (newChild == child) {
+                    return this;
+                }
+                replacement = newChild;
+            }
+            return new BitmapNode<>(bitmap, withSlot(index, replacement));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> remove(int hash, int shift, K key) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = slotIndex(bit);
+            Object slot = slots[index];
+
+            if (slot instanceof Leaf) {
+                if (!((Leaf<K, V>) slot).matches(hash, key)) {
+                    return this;
+                }
+                if (slots.length == 1) {
+                    return null;
+                }
+                Object[] newSlots = new Object[slots.length - 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+                return new BitmapNode<>(bitmap & ~bit, newSlots);
+            }
+
+            Node<K, V> child = (Node<K, V>) slot;
+            Node<K, V> newChild = child.remove(hash, shift + BITS, key);
+            if (newChild == child) {
+                return this;
+            }
+            // child cannot become empty here: a child node always holds at least two leaves
+            Leaf<K, V> only = newChild.singleLeaf();
+            return new BitmapNode<>(bitmap, withSlot(index, only != null ? only : newChild));
+        }
+
+        private Object[] withSlot(int index, Object value) {
+            Object[] newSlots = slots.clone();
+            newSlots[index] = value;
+            return newSlots;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Leaf<K, V> singleLeaf() {
+            return slots.length == 1 && slots[0] instanceof Leaf ? (Leaf<K, V>) slots[0] : null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean visit(KeyValueTable.Visitor<? super K, ? super V> visitor) {
+            for (Object slot : slots) {
+                if (slot instanceof Leaf) {
+                    Leaf<K, V> leaf = (Leaf<K, V>) slot;
+                    if (!visitor.visit(leaf.key, leaf.value)) {
+                        return false;
+                    }
+                } else if (!((Node<K, V>) slot).visit(visitor)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int depth() {
+            int deepest = 0;
+            for (Object slot : slots) {
+                if (slot instanceof Node) {
+                    deepest = Math.max(deepest, 1 + ((Node<K, V>) slot).depth());
+                }
+            }
+            return deepest;
+        }
+    }
+
+    /**
+     * Builds the smallest subtree holding two leaves with different keys
+     */
+    private static <K, V> Node<K, V> merge(Leaf<K, V> a, Leaf<K, V> b, int shift) {
+        if (a.hash == b.hash) {
+            Leaf<K, V>[] leaves = newLeaves(2);
+            leaves[0] = a;
+            leaves[1] = b;
+            return new CollisionNode<>(a.hash, leaves);
+        }
+        // differing hashes always split by shift 30, since levels 0..30 cover all 32 bits
+        int indexA = (a.hash >>> shift) & MASK;
+        int indexB = (b.hash >>> shift) & MASK;
+        if (indexA == indexB) {
+            return new BitmapNode<>(1 << indexA, new Object[]{merge(a, b, shift + BITS)});
+        }
+        Object[] slots = indexA < indexB ? new Object[]{a, b} : new Object[]{b, a};
+        return new BitmapNode<>((1 << indexA) | (1 << indexB), slots);
+    }
+
+    // Java cannot create a Leaf<K, V>[] directly; the array only ever holds Leaf<K, V>
+    @SuppressWarnings("unchecked")
+    private static <K, V> Leaf<K, V>[] newLeaves(int length) {
+        return (Leaf<K, V>[]) new Leaf<?, ?>[length];
+    }
+
+    /**
+     * Leaves whose keys have exactly the same 32-bit hash
+     */
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+        final int hash;
+        final Leaf<K, V>[] leaves;
+
+        CollisionNode(int hash, Leaf<K, V>[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Leaf<K, V> find(int hash, int shift, K key) {
+            if (hash != this.hash) {
+                return null;
+            }
+            int index = indexOf(key);
+            return index < 0 ? null : leaves[index];
+        }
+
+        @Override
+        Node<K, V> put(Leaf<K, V> leaf, int shift, boolean[] added) {
+            if (leaf.hash != hash) {
+                // a different hash reached this node early - push it one level down
+                BitmapNode<K, V> parent = new BitmapNode<>(1 << ((hash >>> shift) & MASK), new Object[]{this});
+                return parent.put(leaf, shift, added);
+            }
+            int index = indexOf(leaf.key);
+            if (index >= 0) {
+                if (leaves[index].value == leaf.value) {
+                    return this;
+                }
+                Leaf<K, V>[] newLeaves = leaves.clone();
+                newLeaves[index] = leaf;
+                return new CollisionNode<>(hash, newLeaves);
+            }
+            Leaf<K, V>[] newLeaves = newLeaves(leaves.length + 1);
+            System.arraycopy(leaves, 0, newLeaves, 0, leaves.length);
+            newLeaves[leaves.length] = leaf;
+            added[0] = true;
+            return new CollisionNode<>(hash, newLeaves);
+        }
+
+        @Override
+        Node<K, V> remove(int hash, int shift, K key) {
+            if (hash != this.hash) {
+                return this;
+            }
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            if (leaves.length == 2) {
+                // one leaf left - return it as a single-leaf node for the parent to pull up
+                return new BitmapNode<>(0, new Object[]{leaves[1 - index]});
+            }
+            Leaf<K, V>[] newLeaves = newLeaves(leaves.length - 1);
+            System.arraycopy(leaves, 0, newLeaves, 0, index);
+            System.arraycopy(leaves, index + 1, newLeaves, index, leaves.length - index - 1);
+            return new CollisionNode<>(hash, newLeaves);
+        }
+
+        @Override
+        Leaf<K, V> singleLeaf() {
+            return null; // always holds at least two leaves
+        }
+
+        @Override
+        boolean visit(KeyValueTable.Visitor<? super K, ? super V> visitor) {
+            for (Leaf<K, V> leaf : leaves) {
+                if (!visitor.visit(leaf.key, leaf.value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        int depth() {
+            return 0;
+        }
+    }
+}
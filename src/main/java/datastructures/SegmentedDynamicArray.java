@@ -0,0 +1,254 @@
+package datastructures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Segmented (chunked) Dynamic Array for very large collections
+ * Elements live in fixed-size chunks instead of one big array:
+ * - add never copies existing elements, it only allocates a new chunk
+ *   when the last one is full (no 1.5x copy pauses, no big garbage arrays)
+ * - get/set stay O(1): chunk = index >> shift, slot = index & mask
+ * - chunks are released one by one as the array shrinks
+ * Only the chunk directory (one reference per chunk) is ever copied.
+ * Use DynamicArray for ordinary sizes; this pays off from ~10^6 elements.
+ * E -> type of elements stored in the array
+ */
+public class SegmentedDynamicArray<E> implements Iterable<E> {
+    private Object[][] chunks; // directory; null = chunk not allocated
+    private int size;
+    private final int chunkShift;
+    private final int chunkMask;
+    private static final int DEFAULT_CHUNK_SHIFT = 10; // 1024 elements per chunk
+    private static final int INITIAL_DIRECTORY = 4;
+
+    public SegmentedDynamicArray() {
+        this(1 << DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * @param chunkSize Elements per chunk (rounded up to a power of two)
+     */
+    public SegmentedDynamicArray(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        int shift = 0;
+        while ((1 << shift) < chunkSize) {
+            shift++;
+        }
+        this.chunkShift = shift;
+        this.chunkMask = (1 << shift) - 1;
+        this.chunks = new Object[INITIAL_DIRECTORY][];
+        this.size = 0;
+    }
+
+    public int getChunkSize() {
+        return chunkMask + 1;
+    }
+
+    public void add(E element) {
+        int chunk = size >>> chunkShift;
+        if (chunk == chunks.length) {
+            // only the directory grows - the chunks themselves are not copied
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Object[chunkMask + 1];
+        }
+        chunks[chunk][size & chunkMask] = element;
+        size++;
+    }
+
+    public void addAll(DynamicArray<? extends E> other) {
+        for (int i = 0; i < other.size(); i++) {
+            add(other.get(i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        return (E) chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        Object[] chunk = chunks[index >>> chunkShift];
+        E old = (E) chunk[index & chunkMask];
+        chunk[index & chunkMask] = element;
+        return old;
+    }
+
+    /**
+     * Removes and returns the last element (O(1))
+     */
+    public E removeLast() {
+        if (size == 0) {
+            throw new IndexOutOfBoundsException("Array is empty");
+        }
+        E last = get(size - 1);
+        chunks[(size - 1) >>> chunkShift][(size - 1) & chunkMask] = null;
+        size--;
+        releaseUnusedChunks();
+        return last;
+    }
+
+    /**
+     * Removes the element at index, shifting later elements left
+     * Each chunk is shifted with one block copy, plus one element carried
+     * over from the next chunk
+     */
+    public E remove(int index) {
+        E removed = get(index);
+        int last = size - 1;
+        int position = index;
+        while (position < last) {
+            Object[] chunk = chunks[position >>> chunkShift];
+            int offset = position & chunkMask;
+            int chunkEnd = Math.min(chunkMask, (last - position) + offset); // last slot to fill in this chunk
+            System.arraycopy(chunk, offset + 1, chunk, offset, chunkEnd - offset);
+            position += chunkEnd - offset;
+            if (position < last) {
+                // first element of the next chunk moves into the last slot of this one
+                chunk[chunkMask] = chunks[(position + 1) >>> chunkShift][0];
+                position++;
+            }
+        }
+        chunks[last >>> chunkShift][last & chunkMask] = null;
+        size--;
+        releaseUnusedChunks();
+        return removed;
+    }
+
+    /**
+     * Cuts the array down to newSize elements, releasing whole chunks
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("Index out of range");
+        }
+        for (int i = newSize; i < size && (i & chunkMask) != 0; i++) {
+            chunks[i >>> chunkShift][i & chunkMask] = null; // partial chunk kept, clear references
+        }
+        int used = (newSize + chunkMask) >>> chunkShift;
+        if (used < chunks.length && chunks[used] != null) {
+            Arrays.fill(chunks[used], null); // kept as the spare chunk
+        }
+        size = newSize;
+        releaseUnusedChunks();
+    }
+
+    public void clear() {
+        chunks = new Object[INITIAL_DIRECTORY][];
+        size = 0;
+    }
+
+    /**
+     * Frees chunks past the end, keeping one spare chunk so that an
+     * add/remove pair at a chunk boundary does not allocate every time
+     */
+    private void releaseUnusedChunks() {
+        int used = (size + chunkMask) >>> chunkShift;
+        for (int c = used + 1; c < chunks.length && chunks[c] != null; c++) {
+            chunks[c] = null;
+        }
+    }
+
+    /**
+     * @return Number of chunks currently allocated (for memory accounting)
+     */
+    public int getAllocatedChunks() {
+        int count = 0;
+        for (Object[] chunk : chunks) {
+            if (chunk != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int indexOf(Object element) {
+        for (int i = 0; i < size; i++) {
+            Object value = chunks[i >>> chunkShift][i & chunkMask];
+            if (value == null ? element == null : value.equals(element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Iterator over the elements in index order
+     * The array must not be modified while iterating
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) chunks[next >>> chunkShift][next & chunkMask];
+                next++;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Walks the elements chunk by chunk
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (int start = 0; start < size; start += chunkMask + 1) {
+            Object[] chunk = chunks[start >>> chunkShift];
+            int end = Math.min(chunkMask + 1, size - start);
+            for (int i = 0; i < end; i++) {
+                action.accept((E) chunk[i]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
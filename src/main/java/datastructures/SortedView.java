@@ -0,0 +1,103 @@
+package datastructures;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Read-only view of a DynamicArray in another order
+ * Holds the source and a permutation of its indices (see
+ * algorithms.IndexSort): element i of the view is source element order[i].
+ * Nothing is copied or moved, so any number of views can order the same
+ * list differently. The view keeps a read-only snapshot of the source
+ * (readOnlyCopy, O(1)), so later changes to the source do not affect it.
+ * E -> type of elements in the view
+ */
+public class SortedView<E> implements Iterable<E> {
+
+    private final DynamicArray<E> source;
+    private final int[] order;
+
+    /**
+     * @param source Elements to view
+     * @param order  Permutation of 0..source.size()-1
+     */
+    public SortedView(DynamicArray<E> source, int[] order) {
+        if (order.length != source.size()) {
+            throw new IllegalArgumentException("Order has " + order.length
+                    + " indices for " + source.size() + " elements");
+        }
+        this.source = source.readOnlyCopy();
+        this.order = order.clone();
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    public boolean isEmpty() {
+        return order.length == 0;
+    }
+
+    public E get(int index) {
+        return source.get(sourceIndex(index));
+    }
+
+    /**
+     * @return Index in the source of the view's element at index
+     */
+    public int sourceIndex(int index) {
+        if (index < 0 || index >= order.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + order.length);
+        }
+        return order[index];
+    }
+
+    /**
+     * @return The elements in view order, as a new DynamicArray
+     */
+    public DynamicArray<E> toDynamicArray() {
+        DynamicArray<E> result = new DynamicArray<>(Math.max(1, order.length));
+        for (int index : order) {
+            result.add(source.get(index));
+        }
+        return result;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (int index : order) {
+            action.accept(source.get(index));
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < order.length;
+            }
+
+            @Override
+            public E next() {
+                if (next >= order.length) {
+                    throw new NoSuchElementException();
+                }
+                return source.get(order[next++]);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(source.get(order[i]));
+        }
+        return sb.append("]").toString();
+    }
+}
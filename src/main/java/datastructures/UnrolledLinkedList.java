@@ -0,0 +1,289 @@
+package datastructures;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Unrolled linked list
+ * Each node packs up to nodeCapacity elements in a small array, so walking
+ * the list touches one node per block of elements instead of one per element
+ * (fewer pointer hops and cache misses, less per-element node overhead).
+ * Nodes are split when full and merged with a neighbour when less than half
+ * full, so every node except the last stays at least half used.
+ * T -> type of elements stored in the list
+ */
+public class UnrolledLinkedList<T> implements Iterable<T> {
+
+    private static final class Block<T> {
+        final Object[] elements;
+        int count;
+        Block<T> next;
+
+        Block(int capacity) {
+            elements = new Object[capacity];
+        }
+    }
+
+    private Block<T> head;
+    private Block<T> tail;
+    private int size;
+    private final int nodeCapacity;
+    private static final int DEFAULT_NODE_CAPACITY = 16;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * @param nodeCapacity Elements per node (at least 2)
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2");
+        }
+        this.nodeCapacity = nodeCapacity;
+        head = new Block<>(nodeCapacity);
+        tail = head;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        head = new Block<>(nodeCapacity);
+        tail = head;
+        size = 0;
+    }
+
+    // adds an element to the end of the list (O(1))
+    public void add(T data) {
+        if (tail.count == nodeCapacity) {
+            Block<T> block = new Block<>(nodeCapacity);
+            tail.next = block;
+            tail = block;
+        }
+        tail.elements[tail.count++] = data;
+        size++;
+    }
+
+    //add an element at a specific index in the list
+    public void add(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            add(data);
+            return;
+        }
+        Block<T> block = head;
+        while (index >= block.count) {
+            index -= block.count;
+            block = block.next;
+        }
+        if (block.count == nodeCapacity) {
+            split(block);
+            if (index >= block.count) {
+                index -= block.count;
+                block = block.next;
+            }
+        }
+        System.arraycopy(block.elements, index, block.elements, index + 1, block.count - index);
+        block.elements[index] = data;
+        block.count++;
+        size++;
+    }
+
+    // moves the upper half of a full block into a new block after it
+    private void split(Block<T> block) {
+        Block<T> upper = new Block<>(nodeCapacity);
+        int half = block.count / 2;
+        upper.count = block.count - half;
+        System.arraycopy(block.elements, half, upper.elements, 0, upper.count);
+        Arrays.fill(block.elements, half, block.count, null);
+        block.count = half;
+        upper.next = block.next;
+        block.next = upper;
+        if (tail == block) {
+            tail = upper;
+        }
+    }
+
+    // get an element at a specific index (skips whole blocks)
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Block<T> block = head;
+        while (index >= block.count) {
+            index -= block.count;
+            block = block.next;
+        }
+        return (T) block.elements[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Block<T> previous = null;
+        Block<T> block = head;
+        while (index >= block.count) {
+            index -= block.count;
+            previous = block;
+            block = block.next;
+        }
+        T removed = (T) block.elements[index];
+        System.arraycopy(block.elements, index + 1, block.elements, index, block.count - index - 1);
+        block.elements[--block.count] = null;
+        size--;
+        if (block.count == 0 && previous != null) {
+            // drop the empty block (only the head block may stay empty)
+            previous.next = block.next;
+            if (tail == block) {
+                tail = previous;
+            }
+            return removed;
+        }
+        rebalance(block);
+        return removed;
+    }
+
+    // keeps a block at least half full by borrowing from or merging with the next one
+    private void rebalance(Block<T> block) {
+        Block<T> next = block.next;
+        if (next == null || block.count >= nodeCapacity / 2) {
+            return;
+        }
+        if (block.count + next.count <= nodeCapacity) {
+            // merge next into block
+            System.arraycopy(next.elements, 0, block.elements, block.count, next.count);
+            block.count += next.count;
+            block.next = next.next;
+            if (tail == next) {
+                tail = block;
+            }
+        } else {
+            // borrow just enough from next
+            int moved = nodeCapacity / 2 - block.count;
+            System.arraycopy(next.elements, 0, block.elements, block.count, moved);
+            System.arraycopy(next.elements, moved, next.elements, 0, next.count - moved);
+            Arrays.fill(next.elements, next.count - moved, next.count, null);
+            block.count += moved;
+            next.count -= moved;
+        }
+    }
+
+    //removes the first occurrence of the specific element
+    public boolean remove(T data) {
+        int index = indexOf(data);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    public int indexOf(T data) {
+        int base = 0;
+        for (Block<T> block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                if (block.elements[i] == null ? data == null : block.elements[i].equals(data)) {
+                    return base + i;
+                }
+            }
+            base += block.count;
+        }
+        return -1;
+    }
+
+    public boolean contains(T data) {
+        return indexOf(data) >= 0;
+    }
+
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new IllegalStateException("List is empty");
+        }
+        return get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (isEmpty()) {
+            throw new IllegalStateException("List is empty");
+        }
+        return (T) tail.elements[tail.count - 1];
+    }
+
+    /**
+     * @return Number of nodes (for memory accounting)
+     */
+    public int getNodeCount() {
+        int count = 0;
+        for (Block<T> block = head; block != null; block = block.next) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (Block<T> block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                action.accept((T) block.elements[i]);
+            }
+        }
+    }
+
+    /**
+     * Iterator over the elements in order
+     * The list must not be modified while iterating
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Block<T> block = head;
+            private int slot = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (block != null && slot >= block.count) {
+                    block = block.next;
+                    slot = 0;
+                }
+                return block != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) block.elements[slot++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (Block<T> block = head; block != null; block = block.next) {
+            for (int i = 0; i < block.count; i++) {
+                if (sb.length() > 1) sb.append(", ");
+                sb.append(block.elements[i]);
+            }
+        }
+        return sb.append("]").toString();
+    }
+}
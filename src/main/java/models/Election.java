@@ -171,16 +171,26 @@ public class Election {
     }
 
     /**
-     * Check if candidate is a winner (based on position and seats)
-     * Assumes candidates are sorted by votes
+     * Check if candidate is a winner (one of the numberOfSeats candidates with
+     * the most votes; a tie goes to the candidate listed first)
+     * One pass that counts who ranks ahead, so the list need not be sorted
      */
     public boolean isWinner(Candidate candidate) {
-        for (int i = 0; i < numberOfSeats && i < candidates.size(); i++) {
-            if (candidates.get(i).equals(candidate)) {
-                return true;
+        int index = candidates.indexOf(candidate);
+        if (index < 0) {
+            return false;
+        }
+        int votes = candidates.get(index).getVotes();
+        int ahead = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            int other = candidates.get(i).getVotes();
+            if (other > votes || (other == votes && i < index)) {
+                if (++ahead >= numberOfSeats) {
+                    return false;
+                }
             }
         }
-        return false;
+        return true;
     }
 
     @Override
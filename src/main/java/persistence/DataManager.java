@@ -3,6 +3,8 @@ package persistence;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.io.xml.DomDriver;
 import controllers.ElectionSystemController;
+import datastructures.HashTable;
+import datastructures.KeyValueTable;
 
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -21,6 +23,8 @@ public class DataManager {
                 "datastructures.**",
                 "controllers.**"
         });
+        // Files saved before the table fields became KeyValueTable carry no class attribute
+        xstream.addDefaultImplementation(HashTable.class, KeyValueTable.class);
     }
 
     // SAVE ================================================================
@@ -1,7 +1,7 @@
 package ui;
 
 import controllers.ElectionSystemController;
-import datastructures.DynamicArray;
+import datastructures.SortedView;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -92,23 +92,26 @@ public class CandidateListController implements UsesElectionController {
         sortBox.setOnAction(e -> applySort());
     }
 
+    // shows the candidates in the chosen order through a sorted view -
+    // election.getCandidates() keeps its own order for the other screens
     private void applySort() {
         if (election == null) return;
 
-        DynamicArray<Candidate> arr = election.getCandidates();
         String s = sortBox.getValue();
         if (s == null) return;
 
-        switch (s) {
-            case "Votes ↑" -> systemController.sortCandidates(arr, "votes", true);
-            case "Votes ↓" -> systemController.sortCandidates(arr, "votes", false);
-            case "Name A→Z" -> systemController.sortCandidates(arr, "name", true);
-            case "Name Z→A" -> systemController.sortCandidates(arr, "name", false);
-            case "Party A→Z" -> systemController.sortCandidates(arr, "party", true);
-            case "Party Z→A" -> systemController.sortCandidates(arr, "party", false);
-        }
-
-        loadCandidates();
+        SortedView<Candidate> sorted = switch (s) {
+            case "Votes ↑" -> systemController.sortedCandidates(election.getCandidates(), "votes", true);
+            case "Votes ↓" -> systemController.sortedCandidates(election.getCandidates(), "votes", false);
+            case "Name A→Z" -> systemController.sortedCandidates(election.getCandidates(), "name", true);
+            case "Name Z→A" -> systemController.sortedCandidates(election.getCandidates(), "name", false);
+            case "Party A→Z" -> systemController.sortedCandidates(election.getCandidates(), "party", true);
+            case "Party Z→A" -> systemController.sortedCandidates(election.getCandidates(), "party", false);
+            default -> null;
+        };
+        if (sorted == null) return;
+
+        listView.setItems(JFXUtils.toObservableList(sorted));
     }
 
     /**
@@ -1,5 +1,7 @@
 package utils;
 
+import algorithms.KeyedComparator;
+import algorithms.KeySort;
 import models.Politician;
 import models.Election;
 import models.Candidate;
@@ -8,6 +10,9 @@ import java.util.Comparator;
 /**
  * Utility class containing various Comparator implementations
  * for sorting Politicians, Elections, and Candidates
+ * Single-field comparators are KeyedComparators: they also expose their
+ * sort key, so KeySort can extract it once per element (and radix sort
+ * the int keys: votes, seats, year, age)
  */
 public class Comparators {
 
@@ -16,66 +21,59 @@ public class Comparators {
     /**
      * Compare politicians by name (ascending, case-insensitive)
      */
-    public static final Comparator<Politician> BY_NAME = (p1, p2) ->
-            p1.getName().compareToIgnoreCase(p2.getName());
+    public static final Comparator<Politician> BY_NAME = KeyedComparator.ignoringCase(Politician::getName);
 
     /**
      * Compare politicians by name (descending)
      */
-    public static final Comparator<Politician> BY_NAME_DESC = (p1, p2) ->
-            p2.getName().compareToIgnoreCase(p1.getName());
+    public static final Comparator<Politician> BY_NAME_DESC = BY_NAME.reversed();
 
     /**
      * Compare politicians by party (ascending, Independents last)
      */
-    public static final Comparator<Politician> BY_PARTY = (p1, p2) -> {
+    public static final Comparator<Politician> BY_PARTY = KeyedComparator.ofString((p1, p2) -> {
         // Put Independents at the end
         if (p1.isIndependent() && !p2.isIndependent()) return 1;
         if (!p1.isIndependent() && p2.isIndependent()) return -1;
         return p1.getPoliticalParty().compareToIgnoreCase(p2.getPoliticalParty());
-    };
+    }, p -> partyKey(p.getPoliticalParty(), p.isIndependent()));
 
     /**
      * Compare politicians by party (descending)
      */
-    public static final Comparator<Politician> BY_PARTY_DESC = (p1, p2) ->
-            BY_PARTY.compare(p2, p1);
+    public static final Comparator<Politician> BY_PARTY_DESC = BY_PARTY.reversed();
 
     /**
      * Compare politicians by county (ascending)
      */
-    public static final Comparator<Politician> BY_COUNTY = (p1, p2) ->
-            p1.getHomeCounty().compareToIgnoreCase(p2.getHomeCounty());
+    public static final Comparator<Politician> BY_COUNTY = KeyedComparator.ignoringCase(Politician::getHomeCounty);
 
     /**
      * Compare politicians by county (descending)
      */
-    public static final Comparator<Politician> BY_COUNTY_DESC = (p1, p2) ->
-            p2.getHomeCounty().compareToIgnoreCase(p1.getHomeCounty());
+    public static final Comparator<Politician> BY_COUNTY_DESC = BY_COUNTY.reversed();
 
     /**
      * Compare politicians by age (ascending)
+     * (getAge parses the date of birth - sorted through KeySort it runs once per politician)
      */
-    public static final Comparator<Politician> BY_AGE = (p1, p2) ->
-            Integer.compare(p1.getAge(), p2.getAge());
+    public static final Comparator<Politician> BY_AGE = KeyedComparator.ofInt(Politician::getAge);
 
     /**
      * Compare politicians by age (descending)
      */
-    public static final Comparator<Politician> BY_AGE_DESC = (p1, p2) ->
-            Integer.compare(p2.getAge(), p1.getAge());
+    public static final Comparator<Politician> BY_AGE_DESC = BY_AGE.reversed();
 
     /**
      * Compare politicians by date of birth (ascending - oldest first)
      */
-    public static final Comparator<Politician> BY_DOB = (p1, p2) ->
-            p1.getDateOfBirth().compareTo(p2.getDateOfBirth());
+    public static final Comparator<Politician> BY_DOB = KeyedComparator.ofString(
+            (p1, p2) -> p1.getDateOfBirth().compareTo(p2.getDateOfBirth()), Politician::getDateOfBirth);
 
     /**
      * Compare politicians by date of birth (descending - youngest first)
      */
-    public static final Comparator<Politician> BY_DOB_DESC = (p1, p2) ->
-            p2.getDateOfBirth().compareTo(p1.getDateOfBirth());
+    public static final Comparator<Politician> BY_DOB_DESC = BY_DOB.reversed();
 
 
     // ==================== ELECTION COMPARATORS ====================
@@ -83,14 +81,13 @@ public class Comparators {
     /**
      * Compare elections by year (ascending - oldest first)
      */
-    public static final Comparator<Election> BY_YEAR = (e1, e2) ->
-            e1.getYear().compareTo(e2.getYear());
+    public static final Comparator<Election> BY_YEAR =
+            KeyedComparator.ofInt(e -> Integer.parseInt(e.getYear())); // always 4 digits
 
     /**
      * Compare elections by year (descending - most recent first)
      */
-    public static final Comparator<Election> BY_YEAR_DESC = (e1, e2) ->
-            e2.getYear().compareTo(e1.getYear());
+    public static final Comparator<Election> BY_YEAR_DESC = BY_YEAR.reversed();
 
     /**
      * Compare elections by date (ascending - oldest first)
@@ -119,38 +116,32 @@ public class Comparators {
     /**
      * Compare elections by location (ascending)
      */
-    public static final Comparator<Election> BY_LOCATION = (e1, e2) ->
-            e1.getLocation().compareToIgnoreCase(e2.getLocation());
+    public static final Comparator<Election> BY_LOCATION = KeyedComparator.ignoringCase(Election::getLocation);
 
     /**
      * Compare elections by location (descending)
      */
-    public static final Comparator<Election> BY_LOCATION_DESC = (e1, e2) ->
-            e2.getLocation().compareToIgnoreCase(e1.getLocation());
+    public static final Comparator<Election> BY_LOCATION_DESC = BY_LOCATION.reversed();
 
     /**
      * Compare elections by number of seats (ascending)
      */
-    public static final Comparator<Election> BY_SEATS = (e1, e2) ->
-            Integer.compare(e1.getNumberOfSeats(), e2.getNumberOfSeats());
+    public static final Comparator<Election> BY_SEATS = KeyedComparator.ofInt(Election::getNumberOfSeats);
 
     /**
      * Compare elections by number of seats (descending)
      */
-    public static final Comparator<Election> BY_SEATS_DESC = (e1, e2) ->
-            Integer.compare(e2.getNumberOfSeats(), e1.getNumberOfSeats());
+    public static final Comparator<Election> BY_SEATS_DESC = BY_SEATS.reversed();
 
     /**
      * Compare elections by number of candidates (ascending)
      */
-    public static final Comparator<Election> BY_CANDIDATES = (e1, e2) ->
-            Integer.compare(e1.getNumberOfCandidates(), e2.getNumberOfCandidates());
+    public static final Comparator<Election> BY_CANDIDATES = KeyedComparator.ofInt(Election::getNumberOfCandidates);
 
     /**
      * Compare elections by number of candidates (descending)
      */
-    public static final Comparator<Election> BY_CANDIDATES_DESC = (e1, e2) ->
-            Integer.compare(e2.getNumberOfCandidates(), e1.getNumberOfCandidates());
+    public static final Comparator<Election> BY_CANDIDATES_DESC = BY_CANDIDATES.reversed();
 
     /**
      * Composite comparator: Type, then Year (descending)
@@ -168,42 +159,38 @@ public class Comparators {
      * Compare candidates by votes (descending - highest first)
      * PRIMARY SORT FOR ELECTION RESULTS
      */
-    public static final Comparator<Candidate> BY_VOTES = (c1, c2) ->
-            Integer.compare(c2.getVotes(), c1.getVotes());
+    public static final Comparator<Candidate> BY_VOTES = KeyedComparator.<Candidate>ofInt(Candidate::getVotes).reversed();
 
     /**
      * Compare candidates by votes (ascending - lowest first)
      */
-    public static final Comparator<Candidate> BY_VOTES_ASC = (c1, c2) ->
-            Integer.compare(c1.getVotes(), c2.getVotes());
+    public static final Comparator<Candidate> BY_VOTES_ASC = BY_VOTES.reversed();
 
     /**
      * Compare candidates by politician name (ascending)
      */
-    public static final Comparator<Candidate> BY_CANDIDATE_NAME = (c1, c2) ->
-            c1.getPoliticianName().compareToIgnoreCase(c2.getPoliticianName());
+    public static final Comparator<Candidate> BY_CANDIDATE_NAME =
+            KeyedComparator.ignoringCase(Candidate::getPoliticianName);
 
     /**
      * Compare candidates by politician name (descending)
      */
-    public static final Comparator<Candidate> BY_CANDIDATE_NAME_DESC = (c1, c2) ->
-            c2.getPoliticianName().compareToIgnoreCase(c1.getPoliticianName());
+    public static final Comparator<Candidate> BY_CANDIDATE_NAME_DESC = BY_CANDIDATE_NAME.reversed();
 
     /**
      * Compare candidates by party at time (ascending, Independents last)
      */
-    public static final Comparator<Candidate> BY_PARTY_AT_TIME = (c1, c2) -> {
+    public static final Comparator<Candidate> BY_PARTY_AT_TIME = KeyedComparator.ofString((c1, c2) -> {
         // Put Independents at the end
         if (c1.wasIndependent() && !c2.wasIndependent()) return 1;
         if (!c1.wasIndependent() && c2.wasIndependent()) return -1;
         return c1.getPartyAtTime().compareToIgnoreCase(c2.getPartyAtTime());
-    };
+    }, c -> partyKey(c.getPartyAtTime(), c.wasIndependent()));
 
     /**
      * Compare candidates by party at time (descending)
      */
-    public static final Comparator<Candidate> BY_PARTY_AT_TIME_DESC = (c1, c2) ->
-            BY_PARTY_AT_TIME.compare(c2, c1);
+    public static final Comparator<Candidate> BY_PARTY_AT_TIME_DESC = BY_PARTY_AT_TIME.reversed();
 
     /**
      * Composite: Votes (desc), then Name (asc)
@@ -228,6 +215,11 @@ public class Comparators {
 
     // ==================== UTILITY METHODS ====================
 
+    // sort key for the party comparators: Independents last, then case-insensitive party
+    private static String partyKey(String party, boolean independent) {
+        return (independent ? "1" : "0") + KeySort.foldCase(party);
+    }
+
     /**
      * Get politician comparator by name
      * @param sortBy "name", "party", "county", "age"
@@ -1,6 +1,7 @@
 package utils;
 
 import datastructures.DynamicArray;
+import datastructures.SortedView;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -21,4 +22,17 @@ public final class JFXUtils {
 
         return list;
     }
+
+    /**
+     * Converts a SortedView<E> into an ObservableList<E> (in view order)
+     */
+    public static <E> ObservableList<E> toObservableList(SortedView<E> view) {
+        ObservableList<E> list = FXCollections.observableArrayList();
+
+        for (int i = 0; i < view.size(); i++) {
+            list.add(view.get(i));
+        }
+
+        return list;
+    }
 }
@@ -0,0 +1,179 @@
+import datastructures.ConcurrentHashTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for ConcurrentHashTable
+ * Single-threaded API checks plus a multi-threaded stress test with
+ * writers, removers and lock-free readers running against the same table
+ */
+public class ConcurrentHashTableTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int KEYS_PER_WRITER = 20000;
+
+    @Test
+    public void testBasicOperations() {
+        ConcurrentHashTable<String, String> table = new ConcurrentHashTable<>(4, 2);
+        table.put("John", "Value1");
+        table.put("Mary", "Value2");
+        table.put("John", "Value3");
+
+        assertEquals("Value3", table.get("John"));
+        assertEquals(2, table.size());
+        assertTrue(table.containsKey("Mary"));
+        assertEquals(1, table.searchByPartialKey("mar").size());
+
+        assertEquals("Value2", table.remove("Mary"));
+        assertNull(table.remove("Mary"));
+        assertFalse(table.containsKey("Mary"));
+        assertEquals(1, table.keys().size());
+
+        table.clear();
+        assertTrue(table.isEmpty());
+    }
+
+    //merge from several threads must not lose updates
+    @Test
+    public void testAtomicMergeAndComputeIfAbsent() throws Exception {
+        ConcurrentHashTable<String, Integer> counts = new ConcurrentHashTable<>(16, 4);
+        AtomicInteger created = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        Future<?>[] futures = new Future<?>[WRITERS];
+        for (int w = 0; w < WRITERS; w++) {
+            futures[w] = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 5000; i++) {
+                    counts.merge("Key" + (i % 50), 1, Integer::sum);
+                    counts.computeIfAbsent("Once" + (i % 50), key -> created.incrementAndGet());
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        for (int k = 0; k < 50; k++) {
+            assertEquals(WRITERS * 100, counts.get("Key" + k));
+        }
+        assertEquals(50, created.get());
+        assertEquals(100, counts.size());
+
+        assertEquals(WRITERS * 100, counts.putIfAbsent("Key0", -1));
+        assertNull(counts.compute("Key0", (key, value) -> null));
+        assertFalse(counts.containsKey("Key0"));
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        // tiny initial capacity so every segment resizes many times under load
+        ConcurrentHashTable<String, Integer> table = new ConcurrentHashTable<>(16, 8);
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS + READERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger badReads = new AtomicInteger();
+        AtomicInteger writersLeft = new AtomicInteger(WRITERS);
+
+        Future<?>[] futures = new Future<?>[WRITERS + READERS];
+        for (int w = 0; w < WRITERS; w++) {
+            final int writer = w;
+            futures[w] = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < KEYS_PER_WRITER; i++) {
+                    table.put(key(writer, i), i);
+                    // remove every third key again straight away
+                    if (i % 3 == 0) {
+                        table.remove(key(writer, i));
+                    }
+                }
+                if (writersLeft.decrementAndGet() == 0) {
+                    writing.set(false);
+                }
+                return null;
+            });
+        }
+        for (int r = 0; r < READERS; r++) {
+            futures[WRITERS + r] = pool.submit(() -> {
+                start.await();
+                int i = 0;
+                while (writing.get()) {
+                    int writer = i % WRITERS;
+                    int n = (i / WRITERS) % KEYS_PER_WRITER;
+                    Integer value = table.get(key(writer, n));
+                    // a reader may miss a key, but must never see a wrong value
+                    if (value != null && value != n) {
+                        badReads.incrementAndGet();
+                    }
+                    i++;
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(0, badReads.get());
+        int expectedPerWriter = KEYS_PER_WRITER - (KEYS_PER_WRITER + 2) / 3;
+        assertEquals(WRITERS * expectedPerWriter, table.size());
+        assertEquals(WRITERS * expectedPerWriter, table.keys().size());
+        for (int w = 0; w < WRITERS; w++) {
+            for (int i = 0; i < KEYS_PER_WRITER; i++) {
+                assertEquals(i % 3 == 0 ? null : Integer.valueOf(i), table.get(key(w, i)));
+            }
+        }
+        assertTrue(table.getLoadFactor() <= 0.7);
+    }
+
+    @Test
+    public void testConcurrentUpdatesOfSharedKeys() throws Exception {
+        ConcurrentHashTable<Integer, String> table = new ConcurrentHashTable<>();
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        Future<?>[] futures = new Future<?>[WRITERS];
+        for (int w = 0; w < WRITERS; w++) {
+            final String tag = "writer" + w;
+            futures[w] = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 5000; i++) {
+                    table.put(i % 100, tag);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // all writers hit the same 100 keys - no duplicates may appear
+        assertEquals(100, table.size());
+        assertEquals(100, table.keys().size());
+        for (int i = 0; i < 100; i++) {
+            assertTrue(table.get(i).startsWith("writer"));
+        }
+    }
+
+    private static String key(int writer, int i) {
+        return "w" + writer + "-k" + i;
+    }
+}
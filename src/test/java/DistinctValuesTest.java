@@ -0,0 +1,55 @@
+import datastructures.DistinctValues;
+import datastructures.DynamicArray;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for DistinctValues
+ * Tests counting, removal at count zero and single-pass collection
+ */
+public class DistinctValuesTest {
+
+    @Test
+    public void testAddRemoveCounts() {
+        DistinctValues<String> parties = new DistinctValues<>();
+        parties.add("FF");
+        parties.add("FG");
+        parties.add("FF");
+        parties.add(null); // ignored
+        assertEquals(2, parties.size());
+        assertEquals(2, parties.count("FF"));
+
+        parties.remove("FF");
+        assertTrue(parties.contains("FF"));
+        parties.remove("FF");
+        assertFalse(parties.contains("FF"));
+        assertEquals(0, parties.count("FF"));
+        parties.remove("FF"); // already gone, no negative counts
+        parties.add("FF");
+        assertEquals(1, parties.count("FF"));
+
+        parties.replace("FG", "SF");
+        assertFalse(parties.contains("FG"));
+        assertEquals(1, parties.count("SF"));
+        parties.replace("SF", "SF");
+        assertEquals(1, parties.count("SF"));
+
+        parties.clear();
+        assertTrue(parties.isEmpty());
+    }
+
+    @Test
+    public void testOfCollectsDistinctValues() {
+        DynamicArray<String> names = new DynamicArray<>();
+        for (int i = 0; i < 10_000; i++) {
+            names.add("County" + (i % 26));
+        }
+        DistinctValues<Integer> lengths = DistinctValues.of(names, String::length);
+        assertEquals(2, lengths.size()); // "County0".."County9" and "County10".."County25"
+
+        DistinctValues<String> counties = DistinctValues.of(names, name -> name);
+        DynamicArray<String> values = counties.values();
+        assertEquals(26, values.size());
+        assertTrue(values.contains("County25"));
+        assertEquals(10_000 / 26 + 1, counties.count("County0"));
+    }
+}
@@ -0,0 +1,57 @@
+import datastructures.DynamicArray;
+
+import java.util.function.Predicate;
+
+/**
+ * Benchmark: sequential loop versus parallel stream filtering of a DynamicArray
+ * Run with: java DynamicArrayStreamBenchmark (not a JUnit test)
+ * The predicate mimics ElectionSystemController.searchPoliticians
+ * (lowercase + substring test). The size where the parallel column drops
+ * below the loop column is where PARALLEL_THRESHOLD should sit; it depends
+ * on the core count (on a single core the parallel path never pays off).
+ */
+public class DynamicArrayStreamBenchmark {
+
+    private static final int[] SIZES = {1_000, 5_000, 20_000, 100_000, 500_000, 2_000_000};
+    private static final int REPEATS = 20;
+
+    public static void main(String[] args) {
+        System.out.println("cores: " + Runtime.getRuntime().availableProcessors());
+        Predicate<String> test = s -> s.toLowerCase().contains("ry 7");
+
+        for (int size : SIZES) {
+            DynamicArray<String> names = new DynamicArray<>(size);
+            for (int i = 0; i < size; i++) {
+                names.add("Mary " + i);
+            }
+
+            long loop = Long.MAX_VALUE;
+            long sequential = Long.MAX_VALUE;
+            long parallel = Long.MAX_VALUE;
+            int matches = 0;
+            for (int r = 0; r < REPEATS; r++) {
+                long start = System.nanoTime();
+                DynamicArray<String> results = new DynamicArray<>();
+                for (int i = 0; i < names.size(); i++) {
+                    if (test.test(names.get(i))) {
+                        results.add(names.get(i));
+                    }
+                }
+                loop = Math.min(loop, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                DynamicArray<String> seq = names.stream().filter(test).collect(DynamicArray.collector());
+                sequential = Math.min(sequential, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                DynamicArray<String> par = names.parallelStream().filter(test).collect(DynamicArray.collector());
+                parallel = Math.min(parallel, System.nanoTime() - start);
+
+                matches = results.size() + seq.size() + par.size();
+            }
+            // best of REPEATS, in microseconds
+            System.out.printf("%,10d elements  loop %,9d us  stream %,9d us  parallel %,9d us  (%d)%n",
+                    size, loop / 1000, sequential / 1000, parallel / 1000, matches / 3);
+        }
+    }
+}
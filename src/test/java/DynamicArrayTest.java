@@ -0,0 +1,161 @@
+import datastructures.DynamicArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.Spliterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for DynamicArray
+ * Tests growth, shifting inserts/removes and the bulk operations
+ */
+public class DynamicArrayTest {
+
+    private DynamicArray<Integer> range(int from, int to) {
+        DynamicArray<Integer> array = new DynamicArray<>(1);
+        for (int i = from; i < to; i++) {
+            array.add(i);
+        }
+        return array;
+    }
+
+    private void assertContents(DynamicArray<Integer> array, Integer... expected) {
+        assertEquals(expected.length, array.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], array.get(i));
+        }
+    }
+
+    @Test
+    public void testGrowthFromCapacityOne() {
+        DynamicArray<Integer> array = range(0, 100);
+        assertEquals(100, array.size());
+        assertEquals(99, array.get(99));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(100));
+    }
+
+    @Test
+    public void testInsertAndRemoveShift() {
+        DynamicArray<Integer> array = range(0, 5);
+        array.add(0, -1);
+        array.add(3, 99);
+        array.add(array.size(), 100);
+        assertContents(array, -1, 0, 1, 99, 2, 3, 4, 100);
+
+        assertEquals(99, array.remove(3));
+        assertEquals(-1, array.remove(0));
+        assertEquals(100, array.remove(array.size() - 1));
+        assertContents(array, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testAddAllAndInsertAll() {
+        DynamicArray<Integer> array = range(0, 3);
+        array.addAll(range(10, 13));
+        assertContents(array, 0, 1, 2, 10, 11, 12);
+
+        array.insertAll(1, range(20, 22));
+        assertContents(array, 0, 20, 21, 1, 2, 10, 11, 12);
+
+        DynamicArray<Integer> self = range(0, 3);
+        self.insertAll(1, self);
+        assertContents(self, 0, 0, 1, 2, 1, 2);
+        self.addAll(self);
+        assertEquals(12, self.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> self.insertAll(13, range(0, 1)));
+    }
+
+    @Test
+    public void testRemoveRangeRemoveIfRetainAll() {
+        DynamicArray<Integer> array = range(0, 10);
+        array.removeRange(2, 5);
+        assertContents(array, 0, 1, 5, 6, 7, 8, 9);
+        array.removeRange(3, 3);
+        assertEquals(7, array.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.removeRange(5, 8));
+
+        assertTrue(array.removeIf(n -> n % 2 == 1));
+        assertContents(array, 0, 6, 8);
+        assertFalse(array.removeIf(n -> n > 100));
+
+        assertTrue(array.retainAll(range(5, 9)));
+        assertContents(array, 6, 8);
+
+        Object[] copy = array.toArray(); // backed by Object[], like the original
+        assertEquals(2, copy.length);
+        assertEquals(8, copy[1]);
+    }
+
+    @Test
+    public void testIterationAndSpliterator() {
+        DynamicArray<Integer> array = range(0, 1000);
+        int sum = 0;
+        for (int n : array) {
+            sum += n;
+        }
+        assertEquals(499500, sum);
+
+        Spliterator<Integer> right = array.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> left = right.trySplit();
+        assertEquals(500, left.estimateSize());
+        assertEquals(500, right.estimateSize());
+        left.tryAdvance(n -> assertEquals(0, n));
+        right.tryAdvance(n -> assertEquals(500, n));
+    }
+
+    @Test
+    public void testCopyOnWriteDetachesOnFirstWrite() {
+        DynamicArray<Integer> original = range(0, 5);
+        DynamicArray<Integer> copy = original.copyOnWrite();
+        assertContents(copy, 0, 1, 2, 3, 4);
+
+        copy.set(0, 99);
+        copy.add(5);
+        assertContents(original, 0, 1, 2, 3, 4);
+        assertContents(copy, 99, 1, 2, 3, 4, 5);
+
+        DynamicArray<Integer> second = original.copyOnWrite();
+        original.remove(0);
+        original.clear();
+        assertContents(second, 0, 1, 2, 3, 4);
+        assertTrue(original.isEmpty());
+
+        // removeIf only detaches once something matches
+        DynamicArray<Integer> third = second.copyOnWrite();
+        assertFalse(third.removeIf(n -> n > 100));
+        assertTrue(third.removeIf(n -> n % 2 == 0));
+        assertContents(third, 1, 3);
+        assertContents(second, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    public void testReadOnlyCopy() {
+        DynamicArray<Integer> original = range(0, 3);
+        DynamicArray<Integer> view = original.readOnlyCopy();
+        assertTrue(view.isReadOnly());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> view.removeIf(n -> true));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+
+        // the owner keeps writing, the snapshot does not change
+        original.set(1, 42);
+        original.add(3);
+        assertContents(view, 0, 1, 2);
+        assertContents(original, 0, 42, 2, 3);
+        assertEquals(3, view.stream().count());
+    }
+
+    @Test
+    public void testParallelStreamKeepsOrder() {
+        DynamicArray<Integer> array = range(0, 100_000);
+        DynamicArray<Integer> evens = array.parallelStream()
+                .filter(n -> n % 2 == 0)
+                .collect(DynamicArray.collector());
+        assertEquals(50_000, evens.size());
+        for (int i = 0; i < evens.size(); i++) {
+            assertEquals(i * 2, evens.get(i));
+        }
+        assertEquals(array.stream().mapToLong(n -> n).sum(), array.parallelStream().mapToLong(n -> n).sum());
+    }
+}
@@ -0,0 +1,49 @@
+import controllers.ElectionSystemController;
+import models.Election;
+import models.ElectionType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for ElectionSystemController
+ * Updates must keep the ID table, the lists and the snapshots consistent
+ */
+public class ElectionSystemControllerTest {
+
+    @Test
+    public void testUpdateElectionRefusesExistingId() {
+        ElectionSystemController controller = new ElectionSystemController();
+        controller.addElection(ElectionType.GENERAL, "Dublin", "2020-02-08", 4);
+        controller.addElection(ElectionType.GENERAL, "Cork", "2020-02-08", 5);
+        String dublin = controller.getAllElections().get(0).getElectionId();
+        String cork = controller.getAllElections().get(1).getElectionId();
+        Election corkElection = controller.getElection(cork);
+
+        // editing Cork into Dublin's ID must not overwrite Dublin
+        assertFalse(controller.updateElection(cork, ElectionType.GENERAL, "Dublin", "2020-02-08", 3));
+        assertEquals(cork, corkElection.getElectionId());
+        assertEquals("Cork", corkElection.getLocation());
+        assertEquals(5, corkElection.getNumberOfSeats());
+        assertSame(corkElection, controller.getElection(cork));
+        assertEquals(4, controller.getElection(dublin).getNumberOfSeats());
+        assertEquals(2, controller.getElectionCount());
+        assertSame(corkElection, controller.getElectionSnapshot().get(cork));
+
+        // invalid input leaves the election as it was
+        assertThrows(IllegalArgumentException.class,
+                () -> controller.updateElection(cork, ElectionType.LOCAL, "Cork", "bad", 5));
+        assertEquals(cork, corkElection.getElectionId());
+        assertSame(corkElection, controller.getElection(cork));
+
+        // a free ID moves the entry
+        assertTrue(controller.updateElection(cork, ElectionType.LOCAL, "Cork", "2024-06-07", 6));
+        String moved = corkElection.getElectionId();
+        assertNotEquals(cork, moved);
+        assertNull(controller.getElection(cork));
+        assertSame(corkElection, controller.getElection(moved));
+        assertSame(corkElection, controller.getElectionSnapshot().get(moved));
+        assertNull(controller.getElectionSnapshot().get(cork));
+        assertEquals("2024", controller.getAllElectionYears().get(0));
+        assertEquals(2, controller.getAllElectionYears().size());
+    }
+}
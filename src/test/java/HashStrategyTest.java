@@ -0,0 +1,158 @@
+import datastructures.DynamicArray;
+import datastructures.HashStrategy;
+import datastructures.HashTable;
+import datastructures.MixingHashStrategy;
+import datastructures.OpenAddressingHashTable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for the pluggable hash strategies
+ * Compares the default mixing hash with the legacy character-sum hash
+ */
+public class HashStrategyTest {
+
+    private static final String[] SURNAMES = {
+            "Murphy", "Kelly", "O'Sullivan", "Walsh", "Smith", "O'Brien", "Byrne", "Ryan",
+            "O'Connor", "O'Neill", "O'Reilly", "Doyle", "McCarthy", "Gallagher", "O'Doherty",
+            "Kennedy", "Lynch", "Murray", "Quinn", "Moore", "McLoughlin", "O'Carroll",
+            "Connolly", "Daly", "O'Connell", "Wilson", "Dunne", "Brennan", "Burke", "Collins",
+            "Campbell", "Clarke", "Johnston", "Hughes", "O'Farrell", "Fitzgerald", "Brown",
+            "Martin", "Maguire", "Nolan", "Flynn", "Thompson", "O'Callaghan", "O'Donnell",
+            "Duffy", "O'Mahony", "Boyle", "Healy", "O'Shea", "White"
+    };
+
+    @Test
+    public void testLegacyStrategyCollidesOnAnagrams() {
+        HashStrategy legacy = HashStrategy.CHARACTER_SUM;
+        assertEquals(legacy.indexOf("CAT", 101), legacy.indexOf("ACT", 101));
+        assertEquals(legacy.indexOf("CAT", 101), legacy.indexOf("TAC", 101));
+
+        HashTable<String, String> table = new HashTable<>(101, HashStrategy.CHARACTER_SUM);
+        table.put("CAT", "Animal1");
+        table.put("ACT", "Animal2");
+        table.put("TAC", "Animal3");
+        assertEquals("Animal2", table.get("ACT"));
+        assertEquals(2.0 / 3.0, table.getCollisionRate(), 0.0001);
+    }
+
+    @Test
+    public void testDefaultStrategySeparatesAnagrams() {
+        HashStrategy mixing = HashStrategy.DEFAULT;
+        int cat = mixing.hash("CAT");
+        assertNotEquals(cat, mixing.hash("ACT"));
+        assertNotEquals(cat, mixing.hash("TAC"));
+        assertNotEquals(mixing.hash("Ann Lee"), mixing.hash("Lee Ann"));
+    }
+
+    @Test
+    public void testPowerOfTwoTableSizes() {
+        HashStrategy mixing = HashStrategy.DEFAULT;
+        assertEquals(128, mixing.tableSizeFor(101));
+        assertEquals(16, mixing.tableSizeFor(10));
+        assertEquals(256, mixing.nextTableSize(128));
+        for (String name : SURNAMES) {
+            int index = mixing.indexOf(name, 128);
+            assertTrue(index >= 0 && index < 128);
+        }
+        assertEquals(203, HashStrategy.CHARACTER_SUM.nextTableSize(101));
+    }
+
+    @Test
+    public void testTableSizeCappedForHugeRequests() {
+        HashStrategy mixing = HashStrategy.DEFAULT;
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertEquals(1 << 30, mixing.tableSizeFor(Integer.MAX_VALUE - 8));
+            assertEquals(1 << 30, mixing.tableSizeFor((1 << 30) + 1));
+            assertEquals(1 << 30, mixing.nextTableSize(1 << 30));
+        });
+        assertEquals(1 << 30, mixing.tableSizeFor(1 << 30));
+        assertEquals(2, mixing.tableSizeFor(0));
+        assertEquals(2, mixing.tableSizeFor(2));
+        assertEquals(4, mixing.tableSizeFor(3));
+    }
+
+    @Test
+    public void testTablesStopGrowingAtTheCap() {
+        // mixing strategy capped at 8 slots, to reach the cap without 2^30 entries
+        HashStrategy capped = new MixingHashStrategy() {
+            @Override
+            public int tableSizeFor(int requestedCapacity) {
+                return Math.min(8, super.tableSizeFor(requestedCapacity));
+            }
+
+            @Override
+            public int nextTableSize(int currentCapacity) {
+                return Math.min(8, super.nextTableSize(currentCapacity));
+            }
+        };
+        OpenAddressingHashTable<String, Integer> open = new OpenAddressingHashTable<>(2, capped);
+        HashTable<String, Integer> chained = new HashTable<>(2, capped);
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            for (int i = 0; i < 7; i++) {
+                open.put(SURNAMES[i], i);
+            }
+            // the last empty slot ends every probe, so the table refuses to fill it
+            assertThrows(IllegalStateException.class, () -> open.put(SURNAMES[7], 7));
+            assertNull(open.get(SURNAMES[7]));
+            open.put(SURNAMES[0], 100); // updates still work
+            assertEquals(100, open.get(SURNAMES[0]));
+
+            // chains just get longer
+            for (int i = 0; i < SURNAMES.length; i++) {
+                chained.put(SURNAMES[i], i);
+            }
+        });
+        assertEquals(7, open.size());
+        assertEquals(SURNAMES.length, chained.size());
+        assertEquals(8, chained.getMetrics().getCapacity());
+        for (int i = 0; i < SURNAMES.length; i++) {
+            assertEquals(i, chained.get(SURNAMES[i]));
+        }
+    }
+
+    @Test
+    public void testSeedChangesLayout() {
+        MixingHashStrategy a = new MixingHashStrategy(1);
+        MixingHashStrategy b = new MixingHashStrategy(2);
+        assertEquals(a.hash("Murphy"), new MixingHashStrategy(1).hash("Murphy"));
+        assertNotEquals(a.hash("Murphy"), b.hash("Murphy"));
+    }
+
+    @Test
+    public void testCollisionRateOnSurnames() {
+        DynamicArray<String> keys = new DynamicArray<>();
+        for (String surname : SURNAMES) {
+            keys.add(surname);
+            keys.add(surname.toUpperCase());
+        }
+
+        double legacy = HashStrategy.CHARACTER_SUM.collisionRate(keys, 128);
+        double mixing = HashStrategy.DEFAULT.collisionRate(keys, 128);
+        assertTrue(mixing < legacy, "mixing " + mixing + " should beat legacy " + legacy);
+    }
+
+    @Test
+    public void testTablesWorkWithEitherStrategy() {
+        HashStrategy[] strategies = {HashStrategy.DEFAULT, HashStrategy.CHARACTER_SUM};
+        for (HashStrategy strategy : strategies) {
+            HashTable<String, Integer> chained = new HashTable<>(5, strategy);
+            OpenAddressingHashTable<String, Integer> open = new OpenAddressingHashTable<>(5, strategy);
+            for (int i = 0; i < SURNAMES.length; i++) {
+                chained.put(SURNAMES[i], i);
+                open.put(SURNAMES[i], i);
+            }
+            for (int i = 0; i < SURNAMES.length; i += 3) {
+                chained.remove(SURNAMES[i]);
+                open.remove(SURNAMES[i]);
+            }
+            for (int i = 0; i < SURNAMES.length; i++) {
+                Integer expected = i % 3 == 0 ? null : i;
+                assertEquals(expected, chained.get(SURNAMES[i]));
+                assertEquals(expected, open.get(SURNAMES[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+import datastructures.HashTable;
+import datastructures.HashTableMetrics;
+
+/**
+ * Benchmark: containsKey + put versus putIfAbsent on HashTable
+ * Run with: java HashTableInsertBenchmark (not a JUnit test)
+ * Reports key lookups per insert (from HashTable.getMetrics()) and time per insert.
+ * Half of the inserts hit an existing name, like re-importing a data file.
+ */
+public class HashTableInsertBenchmark {
+
+    private static final int NAMES = 200_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        String[] names = new String[NAMES * 2];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Politician " + (i % NAMES);
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            HashTable<String, String> twoStep = new HashTable<>();
+            long start = System.nanoTime();
+            for (String name : names) {
+                if (!twoStep.containsKey(name)) {
+                    twoStep.put(name, name);
+                }
+            }
+            long twoStepNanos = System.nanoTime() - start;
+
+            HashTable<String, String> oneStep = new HashTable<>();
+            start = System.nanoTime();
+            for (String name : names) {
+                oneStep.putIfAbsent(name, name);
+            }
+            long oneStepNanos = System.nanoTime() - start;
+
+            // warm-up rounds are printed too, only the last ones are meaningful
+            report(round, "containsKey+put", twoStep.getMetrics(), twoStepNanos, names.length);
+            report(round, "putIfAbsent    ", oneStep.getMetrics(), oneStepNanos, names.length);
+        }
+    }
+
+    private static void report(int round, String label, HashTableMetrics metrics, long nanos, int inserts) {
+        System.out.printf("round %d  %s  lookups/insert %.2f  comparisons/lookup %.2f  %.1f ns/insert%n",
+                round, label, (double) metrics.getLookups() / inserts, metrics.getAverageComparisons(),
+                (double) nanos / inserts);
+    }
+}
@@ -1,6 +1,9 @@
 
 
+import datastructures.DynamicArray;
+import datastructures.HashStrategy;
 import datastructures.HashTable;
+import datastructures.HashTableMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -114,6 +117,33 @@ public class HashTableTest {
         assertEquals(10, smallTable.size());
     }
 
+    //entries stay reachable while the table is growing incrementally
+    @Test
+    public void testIncrementalRehashing() {
+        HashTable<String, Integer> growing = new HashTable<>(4);
+        boolean sawRehashing = false;
+
+        for (int i = 0; i < 5000; i++) {
+            growing.put("Key" + i, i);
+            sawRehashing |= growing.isRehashing();
+            // spot check old and new entries during migration
+            assertEquals(i, growing.get("Key" + i));
+            assertEquals(0, growing.get("Key0"));
+        }
+        assertTrue(sawRehashing);
+        assertEquals(5000, growing.size());
+        assertEquals(5000, growing.keys().size());
+
+        for (int i = 0; i < 5000; i += 2) {
+            assertEquals(i, growing.remove("Key" + i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 0 ? null : i, growing.get("Key" + i));
+        }
+        assertEquals(2500, growing.size());
+        assertTrue(growing.getLoadFactor() <= 0.7);
+    }
+
     @Test
     public void testKeysAndValues() {
         table.put("John", "Value1");
@@ -136,6 +166,226 @@ public class HashTableTest {
         assertTrue(containsInArray(values, "Value2"));
         assertTrue(containsInArray(values, "Value3"));
     }
+    @Test
+    public void testForEachVisitAndEntryIterator() {
+        HashTable<String, Integer> numbers = new HashTable<>(4);
+        for (int i = 0; i < 100; i++) {
+            numbers.put("Key" + i, i);
+        }
+
+        int[] sum = {0};
+        numbers.forEach((key, value) -> sum[0] += value);
+        assertEquals(4950, sum[0]);
+
+        // visitor stops after the third entry
+        int[] visited = {0};
+        boolean completed = numbers.visit((key, value) -> ++visited[0] < 3);
+        assertFalse(completed);
+        assertEquals(3, visited[0]);
+        assertTrue(numbers.visit((key, value) -> true));
+
+        int count = 0;
+        int iteratorSum = 0;
+        var it = numbers.entryIterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            assertEquals(numbers.get(entry.getKey()), entry.getValue());
+            iteratorSum += entry.getValue();
+            count++;
+        }
+        assertEquals(100, count);
+        assertEquals(4950, iteratorSum);
+        assertThrows(java.util.NoSuchElementException.class, it::next);
+    }
+
+    //indexed partial search must return the same matches as a full scan
+    @Test
+    public void testSubstringIndexMatchesScan() {
+        String[] names = {"Mary Lou McDonald", "Micheal Martin", "Simon Harris", "Eamon Ryan",
+                "Ivana Bacik", "Holly Cairns", "Mattie McGrath", "Aaaa Aaaa", "Al"};
+        HashTable<String, String> scanned = new HashTable<>(8);
+        HashTable<String, String> indexed = new HashTable<>(8);
+        indexed.enableSubstringIndex();
+        for (String name : names) {
+            scanned.put(name, name.toUpperCase());
+            indexed.put(name, name.toUpperCase());
+        }
+
+        String[] queries = {"mar", "MC", "ar", "aaa", "an ry", "xyz", "harris", "al", "a"};
+        for (String query : queries) {
+            assertEquals(scanned.searchByPartialKey(query).size(),
+                    indexed.searchByPartialKey(query).size(), query);
+        }
+        assertEquals(2, indexed.searchByPartialKey("mar").size());
+
+        indexed.remove("Micheal Martin");
+        assertEquals(1, indexed.searchByPartialKey("mar").size());
+        assertEquals("MARY LOU MCDONALD", indexed.searchByPartialKey("mar").get(0));
+        assertEquals(0, indexed.searchByPartialKey("artin").size());
+
+        assertTrue(indexed.getSubstringIndex().getGramCount() > 0);
+        assertTrue(indexed.getSubstringIndex().estimateMemoryBytes() > 0);
+
+        indexed.clear();
+        assertEquals(0, indexed.getSubstringIndex().getPostingCount());
+        assertEquals(0, indexed.searchByPartialKey("mar").size());
+    }
+
+    //index stays exact under heavy add/remove churn, and indexed search does no extra lookups
+    @Test
+    public void testSubstringIndexChurn() {
+        HashTable<String, Integer> scanned = new HashTable<>(8);
+        HashTable<String, Integer> indexed = new HashTable<>(8);
+        indexed.enableSubstringIndex();
+        java.util.Random random = new java.util.Random(9);
+        String[] syllables = {"mur", "phy", "kel", "ly", "aaa", "ann", "o'", "bri", "en"};
+        for (int step = 0; step < 5000; step++) {
+            String key = syllables[random.nextInt(syllables.length)] + syllables[random.nextInt(syllables.length)]
+                    + syllables[random.nextInt(syllables.length)];
+            if (random.nextInt(3) == 0) {
+                assertEquals(scanned.remove(key), indexed.remove(key));
+            } else {
+                scanned.put(key, step);
+                indexed.put(key, step);
+            }
+        }
+        indexed.resetMetrics();
+        for (String query : new String[]{"mur", "aaaa", "phyk", "ly", "nnb", "o'b", "lymur"}) {
+            DynamicArray<Integer> expected = scanned.searchByPartialKey(query);
+            DynamicArray<Integer> actual = indexed.searchByPartialKey(query);
+            assertEquals(expected.size(), actual.size(), query);
+            for (int i = 0; i < actual.size(); i++) {
+                assertTrue(expected.contains(actual.get(i)), query);
+            }
+        }
+        assertEquals(0, indexed.getMetrics().getLookups());
+
+        for (String key : scanned.keys()) {
+            indexed.remove(key);
+        }
+        assertEquals(0, indexed.getSubstringIndex().getPostingCount());
+        assertEquals(0, indexed.getSubstringIndex().getGramCount());
+    }
+
+    @Test
+    public void testPresizedBulkLoad() {
+        // big enough to take the parallel bucket-range path
+        int n = 50_000;
+        datastructures.DynamicArray<String> names = new datastructures.DynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            names.add("Name" + i);
+        }
+        names.add("Name7"); // duplicate key - later value wins, no extra entry
+
+        HashTable<String, String> bulk = HashTable.withExpectedSize(n);
+        bulk.enableSubstringIndex();
+        bulk.put("Name1", "old");
+        bulk.putAll(names, name -> name);
+
+        assertEquals(n, bulk.size());
+        assertEquals("Name1", bulk.get("Name1"));
+        assertEquals("Name49999", bulk.get("Name49999"));
+        assertFalse(bulk.isRehashing());
+        assertTrue(bulk.getLoadFactor() <= 0.7);
+        assertEquals(11, bulk.searchByPartialKey("name4999").size());
+
+        HashTable<String, String> copy = new HashTable<>(4);
+        copy.putAll(bulk);
+        assertEquals(n, copy.size());
+        assertEquals("Name123", copy.get("Name123"));
+    }
+
+    @Test
+    public void testMetrics() {
+        // initial capacity 16, so the 12th entry starts a rehash
+        for (int i = 0; i < 12; i++) {
+            table.put("Key" + i, "Value" + i);
+        }
+        table.get("Key1");
+        table.get("Key2");
+        table.get("Missing");
+
+        HashTableMetrics metrics = table.getMetrics();
+        assertEquals(12, metrics.getSize());
+        assertEquals(1, metrics.getRehashCount());
+        assertEquals(2, metrics.getHits());
+        assertEquals(1, metrics.getMisses());
+        assertTrue(metrics.getAverageComparisons() > 0);
+
+        int[] histogram = metrics.getChainLengthHistogram();
+        int slots = 0;
+        int entries = 0;
+        for (int length = 0; length < histogram.length; length++) {
+            slots += histogram[length];
+            entries += length * histogram[length];
+        }
+        assertEquals(12, entries);
+        assertEquals(histogram.length - 1, metrics.getMaxChainLength());
+        assertTrue(slots >= metrics.getCapacity());
+
+        table.resetMetrics();
+        assertEquals(0, table.getMetrics().getHits());
+        assertEquals(0, table.getMetrics().getLookups());
+        assertEquals(12, table.getMetrics().getSize());
+    }
+
+    @Test
+    public void testSingleProbeOperations() {
+        assertNull(table.putIfAbsent("John", "FF"));
+        assertEquals("FF", table.putIfAbsent("John", "FG"));
+        assertEquals("FF", table.get("John"));
+
+        assertEquals("SF", table.computeIfAbsent("Mary", key -> "SF"));
+        assertEquals("SF", table.computeIfAbsent("Mary", key -> fail("must not recompute")));
+        assertNull(table.computeIfAbsent("Nobody", key -> null));
+        assertFalse(table.containsKey("Nobody"));
+
+        assertEquals("FF+", table.compute("John", (key, value) -> value + "+"));
+        assertNull(table.compute("John", (key, value) -> null));
+        assertFalse(table.containsKey("John"));
+
+        assertEquals("A", table.merge("James", "A", String::concat));
+        assertEquals("AB", table.merge("James", "B", String::concat));
+        assertEquals(2, table.size());
+
+        // a key mapped to null is still present
+        table.put("Null", null);
+        assertTrue(table.containsKey("Null"));
+
+        // putIfAbsent needs one lookup, containsKey + put needs two
+        HashTable<String, Integer> counted = new HashTable<>();
+        counted.putIfAbsent("a", 1);
+        assertEquals(1, counted.getMetrics().getLookups());
+        if (!counted.containsKey("b")) {
+            counted.put("b", 2);
+        }
+        assertEquals(3, counted.getMetrics().getLookups());
+    }
+
+    //a null compute result unlinks the entry found by the same walk
+    @Test
+    public void testComputeRemovesInOneWalk() {
+        // anagrams share a chain under the character-sum strategy
+        HashTable<String, Integer> chained = new HashTable<>(101, HashStrategy.CHARACTER_SUM);
+        chained.enableSubstringIndex();
+        chained.put("abcd", 1);
+        chained.put("bcda", 2);
+        chained.put("cdab", 3);
+        chained.resetMetrics();
+
+        assertNull(chained.compute("bcda", (key, value) -> null)); // middle of the chain
+        assertEquals(1, chained.getMetrics().getLookups());
+        assertEquals(2, chained.size());
+        assertFalse(chained.containsKey("bcda"));
+        assertEquals(1, chained.get("abcd"));
+        assertEquals(3, chained.get("cdab"));
+        assertEquals(0, chained.searchByPartialKey("bcda").size());
+
+        assertNull(chained.merge("abcd", 5, (current, value) -> null));
+        assertEquals(1, chained.size());
+        assertEquals(1, chained.searchByPartialKey("cda").size());
+    }
+
     @Test
     public void testClear() {
         table.put("John", "Value1");
@@ -0,0 +1,117 @@
+import algorithms.IndexSort;
+import algorithms.KeyedComparator;
+import algorithms.TimSort;
+import controllers.ElectionSystemController;
+import datastructures.DynamicArray;
+import datastructures.SortedView;
+import models.Candidate;
+import models.ElectionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for IndexSort and SortedView
+ * Sorted orders must match a stable sort and leave the source untouched
+ */
+public class IndexSortTest {
+
+    // key + original position, to check stability
+    private record Item(int key, int position) {
+    }
+
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(Item::key);
+
+    private static DynamicArray<Item> randomItems(int n, long seed) {
+        Random random = new Random(seed);
+        DynamicArray<Item> items = new DynamicArray<>();
+        for (int i = 0; i < n; i++) {
+            items.add(new Item(random.nextInt(Math.max(1, n / 8)) - n / 16, i));
+        }
+        return items;
+    }
+
+    private static Item[] stableSorted(DynamicArray<Item> source, Comparator<Item> comparator) {
+        Item[] sorted = new Item[source.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = source.get(i);
+        }
+        TimSort.sort(sorted, comparator);
+        return sorted;
+    }
+
+    @Test
+    public void testOrderMatchesStableSort() {
+        KeyedComparator<Item> keyed = KeyedComparator.ofInt(Item::key);
+        List<Comparator<Item>> comparators = List.of(BY_KEY, BY_KEY.reversed(), keyed, keyed.reversed());
+        for (int n : new int[]{0, 1, 15, 16, 17, 100, 1000, 20_000}) {
+            DynamicArray<Item> source = randomItems(n, n);
+            for (Comparator<Item> comparator : comparators) {
+                Item[] expected = stableSorted(source, comparator);
+                int[] order = IndexSort.sortedOrder(source, comparator);
+                assertEquals(n, order.length);
+                for (int i = 0; i < n; i++) {
+                    assertEquals(expected[i], source.get(order[i]), "n = " + n + ", i = " + i);
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                assertEquals(i, source.get(i).position()); // source untouched
+            }
+        }
+    }
+
+    @Test
+    public void testViewsAreIndependentSnapshots() {
+        DynamicArray<Item> source = randomItems(500, 3);
+        SortedView<Item> ascending = IndexSort.sortedView(source, BY_KEY);
+        SortedView<Item> descending = IndexSort.sortedView(source, BY_KEY.reversed());
+        assertEquals(500, ascending.size());
+        for (int i = 1; i < ascending.size(); i++) {
+            assertTrue(ascending.get(i - 1).key() <= ascending.get(i).key());
+            assertTrue(descending.get(i - 1).key() >= descending.get(i).key());
+        }
+        assertSame(source.get(ascending.sourceIndex(0)), ascending.get(0));
+
+        // later changes to the source do not reach existing views
+        Item first = ascending.get(0);
+        source.clear();
+        assertEquals(500, ascending.size());
+        assertSame(first, ascending.get(0));
+
+        int count = 0;
+        for (Item item : descending) {
+            assertNotNull(item);
+            count++;
+        }
+        assertEquals(500, count);
+        assertEquals(500, ascending.toDynamicArray().size());
+        assertThrows(IndexOutOfBoundsException.class, () -> ascending.get(500));
+        assertThrows(IllegalArgumentException.class, () -> new SortedView<>(randomItems(3, 1), new int[2]));
+    }
+
+    @Test
+    public void testSortedCandidatesKeepElectionOrder() {
+        ElectionSystemController controller = new ElectionSystemController();
+        controller.addElection(ElectionType.GENERAL, "Dublin", "2024-01-01", 2);
+        String id = controller.getAllElections().get(0).getElectionId();
+        String[] names = {"John", "Mary", "Pat"};
+        String[] parties = {"Fine Gael", "Fianna Fail", "Sinn Fein"};
+        int[] votes = {5000, 8000, 6500};
+        for (int i = 0; i < names.length; i++) {
+            controller.addPolitician(names[i], "1970-01-01", parties[i], "Dublin", "");
+            controller.addCandidate(names[i], id, votes[i], parties[i]);
+        }
+        DynamicArray<Candidate> candidates = controller.getElection(id).getCandidates();
+
+        SortedView<Candidate> byVotes = controller.sortedCandidates(candidates, "votes", false);
+        SortedView<Candidate> byName = controller.sortedCandidates(candidates, "name", true);
+        assertEquals("Mary", byVotes.get(0).getPoliticianName());
+        assertEquals("John", byName.get(0).getPoliticianName());
+        assertEquals("Pat", byName.get(2).getPoliticianName());
+        assertEquals("John", candidates.get(0).getPoliticianName()); // not reordered
+        assertEquals("Pat", candidates.get(2).getPoliticianName());
+    }
+}
@@ -0,0 +1,104 @@
+import algorithms.KeySort;
+import algorithms.KeyedComparator;
+import algorithms.TimSort;
+import datastructures.DynamicArray;
+import models.Politician;
+import org.junit.jupiter.api.Test;
+import utils.Comparators;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for KeySort and KeyedComparator
+ * Sorting on extracted keys must give the same order as the comparator
+ */
+public class KeySortTest {
+
+    @Test
+    public void testFoldCaseMatchesCompareToIgnoreCase() {
+        String[] words = {"Ó Broin", "o'brien", "OBRIEN", "Murphy", "mürphy", "MÜRPHY", "straße", "STRASSE",
+                "İstanbul", "ıstanbul", "Istanbul", "ΣΟΦΙΑ", "σοφια", "σοφιας", "", "a", "A", "Zoe", "zoë"};
+        for (String a : words) {
+            for (String b : words) {
+                assertEquals(Integer.signum(a.compareToIgnoreCase(b)),
+                        Integer.signum(KeySort.foldCase(a).compareTo(KeySort.foldCase(b))), a + " vs " + b);
+            }
+        }
+    }
+
+    @Test
+    public void testKeyedPoliticianComparatorsMatchTheirOrder() {
+        String[] parties = {"Fianna Fail", "fine gael", "Independent", "Sinn Fein", "INDEPENDENT", "Labour"};
+        String[] counties = {"Cork", "cork", "Dublin", "Kerry", "galway"};
+        Random random = new Random(5);
+        DynamicArray<Politician> politicians = new DynamicArray<>();
+        for (int i = 0; i < 2000; i++) {
+            String dob = (1940 + random.nextInt(60)) + "-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10);
+            politicians.add(new Politician((i % 2 == 0 ? "Name " : "name ") + random.nextInt(500), dob,
+                    parties[random.nextInt(parties.length)], counties[random.nextInt(counties.length)], ""));
+        }
+
+        for (String sortBy : new String[]{"name", "party", "county", "age", "dob"}) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                Comparator<Politician> comparator = Comparators.getPoliticianComparator(sortBy, ascending);
+                assertInstanceOf(KeyedComparator.class, comparator);
+
+                DynamicArray<Politician> keySorted = politicians.copyOnWrite();
+                KeySort.sort(keySorted, (KeyedComparator<Politician>) comparator);
+                DynamicArray<Politician> compared = politicians.copyOnWrite();
+                TimSort.sort(compared, comparator); // stable, like KeySort
+
+                for (int i = 0; i < politicians.size(); i++) {
+                    assertSame(compared.get(i), keySorted.get(i), sortBy + " " + ascending + " at " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLargeSortsMatchStableSort() {
+        // past PARALLEL_THRESHOLD the keys are extracted and sorted on the common pool
+        Random random = new Random(11);
+        DynamicArray<Politician> politicians = new DynamicArray<>();
+        for (int i = 0; i < KeySort.PARALLEL_THRESHOLD + 5000; i++) {
+            String dob = (1940 + random.nextInt(60)) + "-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10);
+            politicians.add(new Politician("Name " + random.nextInt(3000), dob, "Independent", "Cork", ""));
+        }
+        for (String sortBy : new String[]{"name", "age"}) {
+            for (boolean ascending : new boolean[]{true, false}) {
+                Comparator<Politician> comparator = Comparators.getPoliticianComparator(sortBy, ascending);
+                DynamicArray<Politician> keySorted = politicians.copyOnWrite();
+                KeySort.sort(keySorted, (KeyedComparator<Politician>) comparator);
+                DynamicArray<Politician> compared = politicians.copyOnWrite();
+                TimSort.sort(compared, comparator);
+
+                for (int i = 0; i < politicians.size(); i++) {
+                    assertSame(compared.get(i), keySorted.get(i), sortBy + " " + ascending + " at " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testIntKeySortIsStableInBothDirections() {
+        DynamicArray<String> words = new DynamicArray<>();
+        String[] input = {"bb", "a", "ccc", "dd", "e", "fff", "g"};
+        for (String word : input) {
+            words.add(word);
+        }
+        KeySort.sortByIntKey(words, String::length, false);
+        assertEquals("[a, e, g, bb, dd, ccc, fff]", java.util.Arrays.toString(words.toArray()));
+        KeySort.sortByIntKey(words, String::length, true);
+        assertEquals("[ccc, fff, bb, dd, a, e, g]", java.util.Arrays.toString(words.toArray()));
+
+        DynamicArray<Integer> extremes = new DynamicArray<>();
+        extremes.add(0);
+        extremes.add(Integer.MAX_VALUE);
+        extremes.add(Integer.MIN_VALUE);
+        extremes.add(-1);
+        KeySort.sortByIntKey(extremes, n -> n, true);
+        assertEquals("[2147483647, 0, -1, -2147483648]", java.util.Arrays.toString(extremes.toArray()));
+    }
+}
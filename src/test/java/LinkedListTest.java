@@ -0,0 +1,128 @@
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.xml.DomDriver;
+import datastructures.CustomLinkedList;
+import datastructures.DoublyLinkedList;
+import datastructures.DynamicArray;
+import datastructures.Node;
+import datastructures.UnrolledLinkedList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for CustomLinkedList, DoublyLinkedList and UnrolledLinkedList
+ * Tests tail tracking, O(1) unlinking and unrolled node splitting/merging
+ */
+public class LinkedListTest {
+
+    @Test
+    public void testTailTracking() {
+        CustomLinkedList<String> list = new CustomLinkedList<>();
+        list.add("b");
+        list.addFirst("a");
+        list.add("d");
+        list.add(2, "c");
+        list.add(4, "e");
+        assertEquals("[a, b, c, d, e]", list.toString());
+        assertEquals("e", list.getLast());
+
+        assertEquals("e", list.remove(4));
+        assertEquals("d", list.getLast());
+        assertTrue(list.remove("d"));
+        assertEquals("c", list.getLast());
+        assertEquals("a", list.removeFirst());
+        list.add("z");
+        assertEquals("[b, c, z]", list.toString());
+
+        list.remove(0);
+        list.remove(0);
+        list.remove(0);
+        assertTrue(list.isEmpty());
+        assertNull(list.getTail());
+        list.add("x");
+        assertEquals("x", list.getFirst());
+        assertEquals("x", list.getLast());
+    }
+
+    @Test
+    public void testTailRestoredForOldDataFiles() {
+        // saved before the tail field existed: only head and size
+        String xml = "<datastructures.CustomLinkedList>"
+                + "<head><data class=\"string\">a</data><next><data class=\"string\">b</data></next></head>"
+                + "<size>2</size></datastructures.CustomLinkedList>";
+        XStream xstream = new XStream(new DomDriver());
+        xstream.allowTypesByWildcard(new String[]{"datastructures.**"});
+        @SuppressWarnings("unchecked")
+        CustomLinkedList<String> list = (CustomLinkedList<String>) xstream.fromXML(xml);
+        assertEquals("b", list.getLast());
+        list.add("c");
+        assertEquals("[a, b, c]", list.toString());
+        assertFalse(xstream.toXML(list).contains("tail"));
+    }
+
+    @Test
+    public void testDoublyLinkedUnlink() {
+        DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        assertEquals(7, list.get(7)); // walked from the tail
+        Node<Integer> middle = list.getHead().getNext().getNext(); // 2
+        assertEquals(2, list.unlink(middle));
+        assertEquals(9, list.removeLast());
+        assertEquals(0, list.unlink(list.getHead()));
+        assertEquals("[1, 3, 4, 5, 6, 7, 8]", list.toString());
+        assertEquals(8, list.getLast());
+
+        // prev pointers stay consistent: walk back from the tail
+        StringBuilder backwards = new StringBuilder();
+        for (Node<Integer> node = list.getTail(); node != null; node = node.getPrev()) {
+            backwards.append(node.getData());
+        }
+        assertEquals("8765431", backwards.toString());
+
+        list.add(3, 42);
+        assertEquals(42, list.getTail().getPrev().getPrev().getPrev().getPrev().getData());
+        while (!list.isEmpty()) {
+            list.removeLast();
+        }
+        assertNull(list.getHead());
+        assertThrows(IllegalStateException.class, list::removeLast);
+    }
+
+    @Test
+    public void testUnrolledMatchesDynamicArray() {
+        UnrolledLinkedList<Integer> unrolled = new UnrolledLinkedList<>(4);
+        DynamicArray<Integer> expected = new DynamicArray<>();
+        Random random = new Random(7);
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                unrolled.add(index, step);
+                expected.add(index, step);
+            } else if (op == 1) {
+                unrolled.add(step);
+                expected.add(step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), unrolled.remove(index));
+            }
+            assertEquals(expected.size(), unrolled.size());
+        }
+        int i = 0;
+        for (int value : unrolled) {
+            assertEquals(expected.get(i++), value);
+        }
+        assertEquals(expected.get(expected.size() - 1), unrolled.getLast());
+        assertEquals(expected.get(0), unrolled.getFirst());
+        // every node but the last is at least half full
+        assertTrue(unrolled.getNodeCount() <= expected.size() / 2 + 1);
+
+        while (!unrolled.isEmpty()) {
+            unrolled.remove(unrolled.size() - 1);
+        }
+        assertEquals(1, unrolled.getNodeCount());
+    }
+}
@@ -0,0 +1,134 @@
+import datastructures.OpenAddressingHashTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for OpenAddressingHashTable
+ * Tests linear probing, backward-shift deletion and rehashing
+ */
+public class OpenAddressingHashTableTest {
+
+    private OpenAddressingHashTable<String, String> table;
+    @BeforeEach
+    public void setUp() {
+        //small table so probe runs overlap
+        table = new OpenAddressingHashTable<>(8);
+    }
+
+    @Test
+    public void testBasicPutAndGet() {
+        table.put("John", "Politician1");
+        table.put("Mary", "Politician2");
+        table.put("James", "Politician3");
+
+        assertEquals("Politician1", table.get("John"));
+        assertEquals("Politician2", table.get("Mary"));
+        assertEquals("Politician3", table.get("James"));
+        assertNull(table.get("Non"));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    public void testUpdateExistingKey() {
+        table.put("John", "OldValue");
+        table.put("John", "NewValue");
+        assertEquals("NewValue", table.get("John"));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testRemoveKeepsProbeRunsIntact() {
+        OpenAddressingHashTable<Integer, Integer> ints = new OpenAddressingHashTable<>(16);
+        // all multiples of 16 share the same home slot
+        for (int i = 0; i < 5; i++) {
+            ints.put(i * 16, i);
+        }
+        assertEquals(2, ints.remove(32));
+        assertNull(ints.get(32));
+        assertEquals(0, ints.get(0));
+        assertEquals(1, ints.get(16));
+        assertEquals(3, ints.get(48));
+        assertEquals(4, ints.get(64));
+        assertEquals(4, ints.size());
+        assertNull(ints.remove(32));
+    }
+
+    @Test
+    public void testSingleProbeOperations() {
+        OpenAddressingHashTable<Integer, Integer> ints = new OpenAddressingHashTable<>(16);
+        for (int i = 0; i < 5; i++) {
+            assertNull(ints.putIfAbsent(i * 16, i));
+        }
+        assertEquals(2, ints.putIfAbsent(32, 99));
+        assertEquals(7, ints.computeIfAbsent(80, key -> 7));
+        assertEquals(12, ints.merge(80, 5, Integer::sum));
+
+        // removing through compute must keep the probe run intact
+        assertNull(ints.compute(16, (key, value) -> null));
+        assertNull(ints.get(16));
+        assertEquals(4, ints.get(64));
+        assertEquals(12, ints.get(80));
+        assertEquals(5, ints.size());
+    }
+
+    @Test
+    public void testRehashing() {
+        for (int i = 0; i < 1000; i++) {
+            table.put("Key" + i, "Value" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Value" + i, table.get("Key" + i));
+        }
+        assertEquals(1000, table.size());
+        assertTrue(table.getLoadFactor() <= 0.7);
+
+        for (int i = 0; i < 1000; i += 2) {
+            table.remove("Key" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? null : "Value" + i, table.get("Key" + i));
+        }
+        assertEquals(500, table.size());
+    }
+
+    @Test
+    public void testKeysValuesAndPartialSearch() {
+        table.put("Mary Lou McDonald", "SF");
+        table.put("Micheal Martin", "FF");
+        table.put("Simon Harris", "FG");
+
+        assertEquals(3, table.keys().size());
+        assertEquals(3, table.values().size());
+        assertEquals(2, table.searchByPartialKey("MAR").size());
+        assertEquals(3, table.searchByPartialKey("").size());
+        assertTrue(table.containsKey("Simon Harris"));
+
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertFalse(table.containsKey("Simon Harris"));
+    }
+
+    @Test
+    public void testIteration() {
+        for (int i = 0; i < 50; i++) {
+            table.put("Key" + i, "Value" + i);
+        }
+        int[] count = {0};
+        table.forEach((key, value) -> {
+            assertEquals("Value" + key.substring(3), value);
+            count[0]++;
+        });
+        assertEquals(50, count[0]);
+
+        assertFalse(table.visit((key, value) -> !key.equals("Key7")));
+
+        int iterated = 0;
+        var it = table.entryIterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            assertEquals("Value" + entry.getKey().substring(3), entry.getValue());
+            iterated++;
+        }
+        assertEquals(50, iterated);
+    }
+}
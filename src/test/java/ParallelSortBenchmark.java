@@ -0,0 +1,63 @@
+import algorithms.ParallelQuickSort;
+import algorithms.QuickSort;
+import models.Politician;
+import utils.Comparators;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark: QuickSort versus ParallelQuickSort across core counts
+ * Run with: java ParallelSortBenchmark (not a JUnit test)
+ * Sorts politicians by name, like the politician list screen. Each row uses
+ * a ForkJoinPool with the given parallelism, up to the number of cores.
+ * The size where the parallel column drops below the sequential one is
+ * where ElectionSystemController.PARALLEL_THRESHOLD should sit.
+ * The controller only uses ParallelQuickSort for comparators without an
+ * extractable key; keyed ones (like BY_NAME here) go through KeySort, which
+ * switches to parallel key extraction and Arrays.parallelSort at
+ * KeySort.PARALLEL_THRESHOLD - keep the two thresholds equal.
+ */
+public class ParallelSortBenchmark {
+
+    private static final int[] SIZES = {10_000, 20_000, 100_000, 500_000};
+    private static final int REPEATS = 10;
+
+    public static void main(String[] args) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("cores: " + cores);
+        String[] parties = {"Fianna Fail", "Fine Gael", "Sinn Fein", "Labour", "Independent"};
+        Random random = new Random(1);
+
+        for (int size : SIZES) {
+            Politician[] politicians = new Politician[size];
+            for (int i = 0; i < size; i++) {
+                politicians[i] = new Politician("Politician " + random.nextInt(size * 10), "1970-01-01",
+                        parties[i % parties.length], "Cork", "");
+            }
+
+            long sequential = Long.MAX_VALUE;
+            for (int r = 0; r < REPEATS; r++) {
+                Politician[] copy = politicians.clone();
+                long start = System.nanoTime();
+                QuickSort.sort(copy, Comparators.BY_NAME);
+                sequential = Math.min(sequential, System.nanoTime() - start);
+            }
+            System.out.printf("%,9d elements  sequential         %,8d us%n", size, sequential / 1000);
+
+            for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                long parallel = Long.MAX_VALUE;
+                for (int r = 0; r < REPEATS; r++) {
+                    Politician[] copy = politicians.clone();
+                    long start = System.nanoTime();
+                    ParallelQuickSort.sort(copy, Comparators.BY_NAME, pool);
+                    parallel = Math.min(parallel, System.nanoTime() - start);
+                }
+                pool.shutdown();
+                // best of REPEATS, in microseconds
+                System.out.printf("%,9d elements  parallel (%2d cores) %,8d us%n", size, parallelism, parallel / 1000);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+import datastructures.HashTable;
+import datastructures.PersistentHashTable;
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for PersistentHashTable
+ * Tests that old versions survive writes, hash collisions and node collapsing
+ */
+public class PersistentHashTableTest {
+
+    /**
+     * Key whose hashCode is the same for every instance
+     */
+    private static final class SameHashKey {
+        private final String name;
+
+        SameHashKey(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SameHashKey && ((SameHashKey) obj).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    @Test
+    public void testOldVersionsAreUnchanged() {
+        PersistentHashTable<String, String> v0 = PersistentHashTable.empty();
+        PersistentHashTable<String, String> v1 = v0.put("John", "FF");
+        PersistentHashTable<String, String> v2 = v1.put("Mary", "SF");
+        PersistentHashTable<String, String> v3 = v2.put("John", "FG").remove("Mary");
+
+        assertTrue(v0.isEmpty());
+        assertEquals("FF", v1.get("John"));
+        assertNull(v1.get("Mary"));
+        assertEquals(2, v2.size());
+        assertEquals("FF", v2.get("John"));
+        assertEquals("FG", v3.get("John"));
+        assertFalse(v3.containsKey("Mary"));
+        assertEquals(1, v3.size());
+
+        // no-op writes return the same version
+        assertSame(v2, v2.put("John", v2.get("John")));
+        assertSame(v2, v2.remove("Nobody"));
+        assertThrows(IllegalArgumentException.class, () -> v2.put(null, "x"));
+    }
+
+    @Test
+    public void testCollisions() {
+        PersistentHashTable<SameHashKey, Integer> table = PersistentHashTable.empty();
+        for (int i = 0; i < 5; i++) {
+            table = table.put(new SameHashKey("K" + i), i);
+        }
+        table = table.put(new SameHashKey("K2"), 20);
+        assertEquals(5, table.size());
+        assertEquals(20, table.get(new SameHashKey("K2")));
+
+        PersistentHashTable<SameHashKey, Integer> before = table;
+        for (int i = 0; i < 4; i++) {
+            table = table.remove(new SameHashKey("K" + i));
+        }
+        assertEquals(1, table.size());
+        assertEquals(4, table.get(new SameHashKey("K4")));
+        assertEquals(5, before.size());
+        assertEquals(0, before.get(new SameHashKey("K0")));
+        assertTrue(table.remove(new SameHashKey("K4")).isEmpty());
+    }
+
+    @Test
+    public void testMatchesHashTableUnderRandomEdits() {
+        Random random = new Random(7);
+        HashTable<String, Integer> reference = new HashTable<>();
+        PersistentHashTable<String, Integer> table = PersistentHashTable.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            String key = "Key" + random.nextInt(3000);
+            if (random.nextInt(3) == 0) {
+                reference.remove(key);
+                table = table.remove(key);
+            } else {
+                reference.put(key, i);
+                table = table.put(key, i);
+            }
+        }
+        assertEquals(reference.size(), table.size());
+        PersistentHashTable<String, Integer> finalTable = table;
+        reference.forEach((key, value) -> assertEquals(value, finalTable.get(key)));
+        assertEquals(reference.size(), table.keys().size());
+        assertTrue(table.getDepth() <= 7);
+
+        PersistentHashTable<String, Integer> copy = PersistentHashTable.copyOf(reference);
+        assertEquals(reference.size(), copy.size());
+        assertEquals(reference.searchByPartialKey("key29").size(), copy.searchByPartialKey("key29").size());
+    }
+}
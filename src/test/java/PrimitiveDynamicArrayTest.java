@@ -0,0 +1,62 @@
+import datastructures.IntDynamicArray;
+import datastructures.LongDynamicArray;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for IntDynamicArray and LongDynamicArray
+ * Tests growth, bulk append, sort / binary search and aggregates
+ */
+public class PrimitiveDynamicArrayTest {
+
+    @Test
+    public void testIntGrowthAndAccess() {
+        IntDynamicArray votes = new IntDynamicArray(1);
+        for (int i = 0; i < 100; i++) {
+            votes.add(i * 10);
+        }
+        assertEquals(100, votes.size());
+        assertEquals(990, votes.get(99));
+        assertEquals(50, votes.set(5, 7));
+        assertEquals(7, votes.get(5));
+        assertEquals(990, votes.removeLast());
+        assertEquals(99, votes.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> votes.get(99));
+
+        votes.clear();
+        assertTrue(votes.isEmpty());
+        assertThrows(IllegalStateException.class, votes::max);
+    }
+
+    @Test
+    public void testIntSortSearchAndSum() {
+        IntDynamicArray years = new IntDynamicArray();
+        years.addAll(new int[]{2024, 2016, 2020, 2011, 2007});
+        IntDynamicArray more = new IntDynamicArray();
+        more.addAll(new int[]{1997, 2002});
+        years.addAll(more);
+
+        years.sort();
+        assertArrayEquals(new int[]{1997, 2002, 2007, 2011, 2016, 2020, 2024}, years.toArray());
+        assertEquals(4, years.binarySearch(2016));
+        assertTrue(years.binarySearch(2015) < 0);
+        assertEquals(1997, years.min());
+        assertEquals(2024, years.max());
+        assertTrue(years.contains(2011));
+
+        IntDynamicArray big = new IntDynamicArray();
+        big.addAll(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE});
+        assertEquals(2L * Integer.MAX_VALUE, big.sum());
+    }
+
+    @Test
+    public void testLongArray() {
+        LongDynamicArray totals = new LongDynamicArray(2);
+        totals.addAll(new long[]{5_000_000_000L, 3L, 42L}, 1, 3);
+        totals.add(-1L);
+        assertArrayEquals(new long[]{3L, 42L, -1L}, totals.toArray());
+        totals.sort();
+        assertEquals(2, totals.binarySearch(42L));
+        assertEquals(44L, totals.sum());
+        assertThrows(IndexOutOfBoundsException.class, () -> totals.addAll(new long[1], 0, 2));
+    }
+}
@@ -0,0 +1,83 @@
+import datastructures.IntObjectHashTable;
+import datastructures.ObjectIntHashTable;
+import datastructures.ObjectLongHashTable;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for the primitive-valued hash tables
+ * Tests counters, missing-key values, deletion and rehashing
+ */
+public class PrimitiveHashTableTest {
+
+    @Test
+    public void testObjectIntCounters() {
+        ObjectIntHashTable<String> counts = new ObjectIntHashTable<>(4);
+        assertEquals(0, counts.get("FF"));
+        assertEquals(1, counts.increment("FF"));
+        assertEquals(2, counts.increment("FF"));
+        assertEquals(5, counts.addTo("SF", 5));
+        assertEquals(2, counts.get("FF"));
+        assertEquals(2, counts.size());
+        assertEquals(7, counts.sum());
+
+        assertEquals(2, counts.put("FF", 10));
+        assertEquals(10, counts.get("FF"));
+        assertEquals(10, counts.remove("FF"));
+        assertFalse(counts.containsKey("FF"));
+        assertEquals(-1, counts.getOrDefault("FF", -1));
+        assertEquals(1, counts.size());
+    }
+
+    @Test
+    public void testObjectIntNoEntryValue() {
+        ObjectIntHashTable<String> table = new ObjectIntHashTable<>(8, -1);
+        assertEquals(-1, table.get("missing"));
+        assertEquals(-1, table.put("a", 3));
+        assertEquals(-1, table.remove("missing"));
+        assertThrows(IllegalArgumentException.class, () -> table.put(null, 1));
+    }
+
+    @Test
+    public void testObjectLongRehashingAndRemove() {
+        ObjectLongHashTable<String> totals = new ObjectLongHashTable<>(2);
+        for (int i = 0; i < 1000; i++) {
+            totals.addTo("Key" + (i % 100), 3_000_000_000L);
+        }
+        assertEquals(100, totals.size());
+        assertEquals(30_000_000_000L, totals.get("Key42"));
+
+        for (int i = 0; i < 100; i += 2) {
+            totals.remove("Key" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? 0L : 30_000_000_000L, totals.get("Key" + i));
+        }
+        long[] sum = {0};
+        totals.forEach((key, value) -> sum[0] += value);
+        assertEquals(totals.sum(), sum[0]);
+        assertEquals(50, totals.keys().size());
+    }
+
+    @Test
+    public void testIntObjectTable() {
+        IntObjectHashTable<String> byYear = new IntObjectHashTable<>(2);
+        for (int year = 1900; year < 2100; year++) {
+            byYear.put(year, "Y" + year);
+        }
+        assertEquals(200, byYear.size());
+        assertEquals("Y2024", byYear.get(2024));
+        assertNull(byYear.get(0));
+        assertEquals("Y2024", byYear.put(2024, "Election"));
+        assertEquals("Election", byYear.get(2024));
+
+        for (int year = 1900; year < 2100; year += 2) {
+            assertNotNull(byYear.remove(year));
+        }
+        for (int year = 1900; year < 2100; year++) {
+            assertEquals(year % 2 == 1, byYear.containsKey(year));
+        }
+        assertEquals(100, byYear.keys().length);
+        assertEquals(100, byYear.values().size());
+        assertThrows(IllegalArgumentException.class, () -> byYear.put(1, null));
+    }
+}
@@ -125,6 +125,97 @@ public class QuickSortTest {
 
 
 
+    //Test introsort on inputs that hurt plain quicksort
+    @Test
+    public void testSortedReversedAndDuplicateHeavyInputs() {
+        int n = 20_000;
+        int[][] inputs = new int[5][n];
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < n; i++) {
+            inputs[0][i] = i;                        // sorted
+            inputs[1][i] = n - i;                    // reversed
+            inputs[2][i] = 7;                        // all equal
+            inputs[3][i] = i < n / 2 ? i : n - i;    // organ pipe
+            inputs[4][i] = random.nextInt(26);       // few distinct keys (like counties)
+        }
+        for (int[] input : inputs) {
+            Integer[] array = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                array[i] = input[i];
+            }
+            long[] comparisons = {0};
+            QuickSort.sort(array, (a, b) -> {
+                comparisons[0]++;
+                return Integer.compare(a, b);
+            });
+            for (int i = 1; i < n; i++) {
+                assertTrue(array[i - 1] <= array[i]);
+            }
+            // n log2 n is about 286k here; quadratic behaviour would be hundreds of millions
+            assertTrue(comparisons[0] < 4_000_000, "comparisons: " + comparisons[0]);
+        }
+    }
+
+    //McIlroy's adversary decides element values while the sort runs, always
+    //making the pivot candidate small - the depth limit must switch to heapsort
+    @Test
+    public void testAdversarialInputStaysLinearithmic() {
+        int n = 10_000;
+        int[] values = new int[n];
+        java.util.Arrays.fill(values, n); // n = undecided ("gas")
+        int[] frozen = {0};
+        int[] candidate = {-1};
+        long[] comparisons = {0};
+        Comparator<Integer> adversary = (x, y) -> {
+            comparisons[0]++;
+            if (values[x] == n && values[y] == n) {
+                values[x == candidate[0] ? x : y] = frozen[0]++;
+            }
+            if (values[x] == n) {
+                candidate[0] = x;
+            } else if (values[y] == n) {
+                candidate[0] = y;
+            }
+            return Integer.compare(values[x], values[y]);
+        };
+        Integer[] array = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i;
+        }
+        QuickSort.sort(array, adversary);
+
+        for (int i = 1; i < n; i++) {
+            assertTrue(values[array[i - 1]] <= values[array[i]]);
+        }
+        assertTrue(comparisons[0] < 3_000_000, "comparisons: " + comparisons[0]);
+    }
+
+    @Test
+    public void testParallelQuickSortMatchesSequential() {
+        int n = 200_000;
+        java.util.Random random = new java.util.Random(3);
+        Integer[] values = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(n / 10); // plenty of duplicates
+        }
+        Integer[] expected = values.clone();
+        QuickSort.sort(expected, Comparator.naturalOrder());
+
+        java.util.concurrent.ForkJoinPool pool = new java.util.concurrent.ForkJoinPool(4);
+        Integer[] parallel = values.clone();
+        algorithms.ParallelQuickSort.sort(parallel, Comparator.naturalOrder(), pool);
+        pool.shutdown();
+        assertArrayEquals(expected, parallel);
+
+        DynamicArray<Integer> array = new DynamicArray<>();
+        for (Integer value : values) {
+            array.add(value);
+        }
+        algorithms.ParallelQuickSort.sort(array, Comparator.reverseOrder());
+        assertEquals(expected[n - 1], array.get(0));
+        assertEquals(expected[0], array.get(n - 1));
+    }
+
     // helper methods
     private DynamicArray<Politician> createSamplePoliticians(){
         DynamicArray<Politician> politicians = new DynamicArray<>();
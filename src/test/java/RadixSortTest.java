@@ -0,0 +1,77 @@
+import algorithms.RadixSort;
+import datastructures.DynamicArray;
+import models.Candidate;
+import models.Election;
+import models.ElectionType;
+import models.Politician;
+import org.junit.jupiter.api.Test;
+import utils.Comparators;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for RadixSort
+ * Tests signed keys, stability and both directions
+ */
+public class RadixSortTest {
+
+    @Test
+    public void testSortedOrderIsStableAndSigned() {
+        Random random = new Random(9);
+        int n = 50_000;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = switch (i % 4) {
+                case 0 -> random.nextInt();             // full range, negatives too
+                case 1 -> random.nextInt(100);          // small keys, many ties
+                case 2 -> -random.nextInt(1000);
+                default -> i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            };
+        }
+        int[] copy = keys.clone();
+        int[] order = RadixSort.sortedOrder(keys);
+
+        assertArrayEquals(copy, keys); // input untouched
+        for (int i = 1; i < n; i++) {
+            int previous = keys[order[i - 1]];
+            int current = keys[order[i]];
+            assertTrue(previous <= current);
+            if (previous == current) {
+                assertTrue(order[i - 1] < order[i]); // stable
+            }
+        }
+    }
+
+    @Test
+    public void testSortByIntKeyDescending() {
+        DynamicArray<Integer> values = new DynamicArray<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add((i * 7919) % 1000 - 500);
+        }
+        RadixSort.sortByIntKey(values, n -> n, true);
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i - 1) >= values.get(i));
+        }
+        assertEquals(499, values.get(0));
+        assertEquals(-500, values.get(999));
+    }
+
+    @Test
+    public void testSortByIntKeyMatchesVoteComparator() {
+        Election election = new Election(ElectionType.GENERAL, "Cork", "2024-01-01", 5);
+        Random random = new Random(1);
+        DynamicArray<Candidate> candidates = new DynamicArray<>();
+        for (int i = 0; i < 600; i++) {
+            Politician politician = new Politician("Name " + i, "1970-01-01", "Party", "Cork", "");
+            candidates.add(new Candidate(politician, election, random.nextInt(300), "Party"));
+        }
+        DynamicArray<Candidate> radix = candidates.copyOnWrite();
+        RadixSort.sortByIntKey(radix, Candidate::getVotes, true);
+        DynamicArray<Candidate> compared = candidates.copyOnWrite();
+        algorithms.TimSort.sort(compared, Comparators.BY_VOTES);
+        for (int i = 0; i < candidates.size(); i++) {
+            assertSame(compared.get(i), radix.get(i));
+        }
+    }
+}
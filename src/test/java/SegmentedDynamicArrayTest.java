@@ -0,0 +1,79 @@
+import datastructures.SegmentedDynamicArray;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for SegmentedDynamicArray
+ * Uses tiny chunks so every operation crosses chunk boundaries
+ */
+public class SegmentedDynamicArrayTest {
+
+    private SegmentedDynamicArray<Integer> range(int n) {
+        SegmentedDynamicArray<Integer> array = new SegmentedDynamicArray<>(4);
+        for (int i = 0; i < n; i++) {
+            array.add(i);
+        }
+        return array;
+    }
+
+    @Test
+    public void testAddGetSetAcrossChunks() {
+        SegmentedDynamicArray<Integer> array = range(1000);
+        assertEquals(4, array.getChunkSize());
+        assertEquals(1000, array.size());
+        assertEquals(250, array.getAllocatedChunks());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, array.get(i));
+        }
+        assertEquals(517, array.set(517, -1));
+        assertEquals(-1, array.get(517));
+        assertEquals(517, array.indexOf(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(1000));
+    }
+
+    @Test
+    public void testRemoveShiftsAcrossChunks() {
+        for (int index : new int[]{0, 3, 4, 5, 17, 18, 19}) {
+            SegmentedDynamicArray<Integer> array = range(20);
+            assertEquals(index, array.remove(index));
+            assertEquals(19, array.size());
+            for (int i = 0; i < 19; i++) {
+                assertEquals(i < index ? i : i + 1, array.get(i), "removed " + index);
+            }
+        }
+    }
+
+    @Test
+    public void testChunksReleasedWhenShrinking() {
+        SegmentedDynamicArray<Integer> array = range(100);
+        assertEquals(25, array.getAllocatedChunks());
+
+        array.truncate(10);
+        assertEquals(10, array.size());
+        assertEquals(9, array.get(9));
+        assertEquals(4, array.getAllocatedChunks()); // 3 in use + 1 spare
+
+        while (!array.isEmpty()) {
+            array.removeLast();
+        }
+        assertEquals(1, array.getAllocatedChunks());
+
+        // refilling after truncate must not see stale elements
+        array.add(42);
+        assertEquals(1, array.size());
+        assertEquals(42, array.get(0));
+    }
+
+    @Test
+    public void testIteration() {
+        SegmentedDynamicArray<Integer> array = range(37);
+        int sum = 0;
+        for (int n : array) {
+            sum += n;
+        }
+        assertEquals(666, sum);
+        int[] forEachSum = {0};
+        array.forEach(n -> forEachSum[0] += n);
+        assertEquals(666, forEachSum[0]);
+        assertEquals(666, array.stream().mapToInt(n -> n).sum());
+    }
+}
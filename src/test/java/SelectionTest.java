@@ -0,0 +1,143 @@
+import algorithms.Selection;
+import algorithms.TimSort;
+import controllers.ElectionSystemController;
+import datastructures.DynamicArray;
+import models.Candidate;
+import models.Election;
+import models.ElectionType;
+import models.Politician;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for Selection (quickselect and bounded-heap top-K)
+ * and the winner / top-candidate queries built on them
+ */
+public class SelectionTest {
+
+    // key + original position, to check tie order
+    private record Item(int key, int position) {
+    }
+
+    private static final Comparator<Item> BY_KEY_DESC = (a, b) -> Integer.compare(b.key(), a.key());
+
+    @Test
+    public void testSelectMatchesSortedArray() {
+        Random random = new Random(5);
+        for (int n : new int[]{1, 2, 7, 100, 5000}) {
+            Integer[] values = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(Math.max(1, n / 4));
+            }
+            Integer[] sorted = values.clone();
+            Arrays.sort(sorted);
+            for (int k : new int[]{0, n / 3, n / 2, n - 1}) {
+                Integer[] work = values.clone();
+                assertEquals(sorted[k], Selection.select(work, k, Integer::compare), "n = " + n + ", k = " + k);
+                for (int i = 0; i < n; i++) {
+                    int cmp = Integer.compare(work[i], work[k]);
+                    assertTrue(i < k ? cmp <= 0 : i == k || cmp >= 0);
+                }
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> Selection.select(new Integer[3], 3, Integer::compare));
+    }
+
+    @Test
+    public void testTopKMatchesStableSortPrefix() {
+        Random random = new Random(17);
+        DynamicArray<Item> source = new DynamicArray<>();
+        for (int i = 0; i < 2000; i++) {
+            source.add(new Item(random.nextInt(50), i)); // many ties
+        }
+        Object[] before = source.toArray();
+        Item[] sorted = new Item[source.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = source.get(i);
+        }
+        TimSort.sort(sorted, BY_KEY_DESC);
+
+        for (int k : new int[]{0, 1, 10, 2000, 2500}) {
+            DynamicArray<Item> top = Selection.topK(source, k, BY_KEY_DESC);
+            assertArrayEquals(Arrays.copyOf(sorted, Math.min(k, sorted.length)), top.toArray(), "k = " + k);
+        }
+        assertArrayEquals(before, source.toArray()); // source untouched
+        assertThrows(IllegalArgumentException.class, () -> new Selection.TopK<Item>(-1, BY_KEY_DESC));
+        assertThrows(IllegalArgumentException.class, () -> Selection.topK(source, -1, BY_KEY_DESC));
+    }
+
+    @Test
+    public void testHugeKDoesNotAllocateK() {
+        DynamicArray<Item> source = new DynamicArray<>();
+        for (int i = 0; i < 100; i++) {
+            source.add(new Item(i % 7, i));
+        }
+        DynamicArray<Item> top = Selection.topK(source, Integer.MAX_VALUE, BY_KEY_DESC);
+        assertEquals(100, top.size());
+        assertEquals(6, top.get(0).key());
+
+        // the heap grows with the offers, not with k
+        Selection.TopK<Item> heap = new Selection.TopK<>(Integer.MAX_VALUE, BY_KEY_DESC);
+        for (int i = 0; i < source.size(); i++) {
+            heap.offer(source.get(i));
+        }
+        assertEquals(100, heap.size());
+        assertArrayEquals(top.toArray(), heap.toArray().toArray());
+
+        ElectionSystemController controller = new ElectionSystemController();
+        controller.addElection(ElectionType.GENERAL, "Dublin", "2024-01-01", 2);
+        String id = controller.getAllElections().get(0).getElectionId();
+        controller.addPolitician("John", "1970-01-01", "Independent", "Dublin", "");
+        controller.addCandidate("John", id, 5000, "Independent");
+        assertEquals(1, controller.topCandidatesByVotes(Integer.MAX_VALUE).size());
+        assertEquals(0, new ElectionSystemController().topCandidatesByVotes(Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void testWinnersDoNotNeedSortedCandidates() {
+        ElectionSystemController controller = new ElectionSystemController();
+        controller.addElection(ElectionType.GENERAL, "Dublin", "2024-01-01", 2);
+        controller.addElection(ElectionType.LOCAL, "Cork", "2019-05-24", 1);
+        String general = controller.getAllElections().get(0).getElectionId();
+        String local = controller.getAllElections().get(1).getElectionId();
+
+        String[] names = {"John", "Mary", "Pat", "Ann"};
+        int[] votes = {5000, 8000, 6500, 8000};
+        for (int i = 0; i < names.length; i++) {
+            controller.addPolitician(names[i], "1970-01-01", "Independent", "Dublin", "");
+            controller.addCandidate(names[i], general, votes[i], "Independent");
+        }
+        controller.addCandidate("Pat", local, 9000, "Independent");
+
+        Election election = controller.getElection(general);
+        DynamicArray<Candidate> winners = controller.getWinners(general);
+        assertEquals(2, winners.size());
+        assertEquals("Mary", winners.get(0).getPoliticianName()); // tie with Ann, listed first
+        assertEquals("Ann", winners.get(1).getPoliticianName());
+        assertEquals("John", election.getCandidates().get(0).getPoliticianName()); // not reordered
+
+        // isWinner agrees without sorting first
+        for (int i = 0; i < election.getCandidates().size(); i++) {
+            Candidate c = election.getCandidates().get(i);
+            assertEquals(winners.contains(c), election.isWinner(c), c.getPoliticianName());
+        }
+        Politician outsider = new Politician("Sean", "1970-01-01", "Independent", "Dublin", "");
+        assertFalse(election.isWinner(new Candidate(outsider, election, 99_999, "Independent")));
+
+        DynamicArray<Candidate> top = controller.topCandidatesByVotes(3);
+        assertEquals(9000, top.get(0).getVotes());
+        assertEquals(8000, top.get(1).getVotes());
+        assertEquals(8000, top.get(2).getVotes());
+        assertEquals(0, controller.getWinners("missing").size());
+
+        // sorting first gives the same winners
+        controller.sortCandidatesByVotes(election);
+        assertEquals(winners.get(0), election.getCandidates().get(0));
+        assertEquals(winners.get(1), election.getCandidates().get(1));
+        assertTrue(election.isWinner(winners.get(1)));
+    }
+}
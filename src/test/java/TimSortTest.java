@@ -0,0 +1,91 @@
+import algorithms.TimSort;
+import datastructures.DynamicArray;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+/**
+ * JUnit Tests for TimSort
+ * Tests stability, run detection and near-linear behaviour on sorted input
+ */
+public class TimSortTest {
+
+    // key + original position, to check stability
+    private record Item(int key, int position) {
+    }
+
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(Item::key);
+
+    @Test
+    public void testMatchesArraysSortAndIsStable() {
+        Random random = new Random(11);
+        for (int n : new int[]{0, 1, 2, 31, 32, 33, 100, 1000, 50_000}) {
+            Item[] items = new Item[n];
+            for (int i = 0; i < n; i++) {
+                items[i] = new Item(random.nextInt(Math.max(1, n / 8)), i);
+            }
+            Item[] expected = items.clone();
+            Arrays.sort(expected, BY_KEY); // also stable
+            TimSort.sort(items, BY_KEY);
+            assertArrayEquals(expected, items, "n = " + n);
+        }
+    }
+
+    @Test
+    public void testRunsAndDescendingInput() {
+        int n = 10_000;
+        Item[] items = new Item[n];
+        for (int i = 0; i < n; i++) {
+            // descending blocks of equal keys, then ascending runs
+            int key = i < n / 2 ? (n / 2 - i) / 3 : (i % 500);
+            items[i] = new Item(key, i);
+        }
+        Item[] expected = items.clone();
+        Arrays.sort(expected, BY_KEY);
+        TimSort.sort(items, BY_KEY);
+        assertArrayEquals(expected, items);
+    }
+
+    @Test
+    public void testSortedAndNearlySortedInputIsNearLinear() {
+        int n = 100_000;
+        Integer[] sorted = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+        }
+        long[] comparisons = {0};
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons[0]++;
+            return Integer.compare(a, b);
+        };
+
+        TimSort.sort(sorted, counting);
+        assertEquals(n - 1, comparisons[0]);
+
+        // a small edit: one element moved far away
+        Integer[] edited = sorted.clone();
+        edited[10] = n + 5;
+        comparisons[0] = 0;
+        TimSort.sort(edited, counting);
+        for (int i = 1; i < n; i++) {
+            assertTrue(edited[i - 1] <= edited[i]);
+        }
+        assertTrue(comparisons[0] < 3L * n, "comparisons: " + comparisons[0]);
+    }
+
+    @Test
+    public void testMultiKeySortBySuccessiveSorts() {
+        DynamicArray<String> names = new DynamicArray<>();
+        String[] input = {"b2", "a3", "b1", "a1", "c2", "a2", "c1"};
+        for (String name : input) {
+            names.add(name);
+        }
+        // secondary key first, then primary key
+        TimSort.sort(names, Comparator.comparing(s -> s.charAt(1)));
+        TimSort.sort(names, Comparator.comparing(s -> s.charAt(0)));
+        assertEquals("[a1, a2, a3, b1, b2, c1, c2]", Arrays.toString(names.toArray()));
+    }
+}